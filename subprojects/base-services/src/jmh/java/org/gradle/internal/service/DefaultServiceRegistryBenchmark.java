@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Creates a child service registry and looks up some of its services, the way a registry is created for each project of a build.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class DefaultServiceRegistryBenchmark {
+    private DefaultServiceRegistry parent;
+
+    @Setup
+    public void createParent() {
+        parent = new DefaultServiceRegistry();
+        parent.addProvider(new ParentServices());
+    }
+
+    @Benchmark
+    public Object createChildScope() {
+        DefaultServiceRegistry registry = new DefaultServiceRegistry(parent);
+        registry.addProvider(new ChildServices());
+        registry.get(TreeMap.class);
+        registry.get(LinkedList.class);
+        registry.get(StringBuilder.class);
+        Object result = registry.get(ConcurrentLinkedQueue.class);
+        registry.close();
+        return result;
+    }
+
+    private static class ParentServices {
+        ArrayList<String> createList() {
+            return new ArrayList<String>();
+        }
+
+        HashMap<String, String> createMap() {
+            return new HashMap<String, String>();
+        }
+
+        LinkedHashSet<String> createSet() {
+            return new LinkedHashSet<String>();
+        }
+    }
+
+    private static class ChildServices {
+        TreeMap<String, String> createTreeMap(HashMap<String, String> map) {
+            return new TreeMap<String, String>(map);
+        }
+
+        TreeSet<String> createTreeSet(LinkedHashSet<String> set) {
+            return new TreeSet<String>(set);
+        }
+
+        LinkedList<String> createLinkedList(ArrayList<String> list) {
+            return new LinkedList<String>(list);
+        }
+
+        ConcurrentHashMap<String, String> createConcurrentMap(TreeMap<String, String> map) {
+            return new ConcurrentHashMap<String, String>(map);
+        }
+
+        CopyOnWriteArrayList<String> createCopyOnWriteList(LinkedList<String> list) {
+            return new CopyOnWriteArrayList<String>(list);
+        }
+
+        ConcurrentLinkedQueue<String> createQueue(CopyOnWriteArrayList<String> list, TreeSet<String> set) {
+            return new ConcurrentLinkedQueue<String>(list);
+        }
+
+        StringBuilder createStringBuilder() {
+            return new StringBuilder();
+        }
+
+        Properties createProperties() {
+            return new Properties();
+        }
+
+        ArrayDeque<String> createDeque() {
+            return new ArrayDeque<String>();
+        }
+
+        Vector<String> createVector() {
+            return new Vector<String>();
+        }
+    }
+}
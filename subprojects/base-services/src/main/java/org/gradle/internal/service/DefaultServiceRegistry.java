@@ -33,13 +33,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Formatter;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -76,6 +78,11 @@ public class DefaultServiceRegistry implements ServiceRegistry, Closeable {
     private final static ServiceRegistry[] NO_PARENTS = new ServiceRegistry[0];
     private final static Service[] NO_DEPENDENTS = new Service[0];
     private final static Object[] NO_PARAMS = new Object[0];
+    /**
+     * The types that a service can be located by, for the service classes of factory and decorator methods. These are calculated once and reused by each registry
+     * created using the same provider class. Like {@link RelevantMethods}, this strongly references the classes of the provider methods.
+     */
+    private final static ConcurrentMap<Class<?>, Class<?>[]> SERVICE_TYPES = new ConcurrentHashMap<Class<?>, Class<?>[]>();
 
     private final OwnServices ownServices;
     private final ServiceProvider allServices;
@@ -266,9 +273,7 @@ public class DefaultServiceRegistry implements ServiceRegistry, Closeable {
     }
 
     private void noLongerMutable() {
-        if (state.compareAndSet(State.INIT, State.STARTED)) {
-            ownServices.noLongerMutable();
-        }
+        state.compareAndSet(State.INIT, State.STARTED);
     }
 
     public boolean isClosed() {
@@ -385,7 +390,6 @@ public class DefaultServiceRegistry implements ServiceRegistry, Closeable {
     private class OwnServices implements ServiceProvider {
         private final Map<Class<?>, List<ServiceProvider>> providersByType = new HashMap<Class<?>, List<ServiceProvider>>(16, 0.5f);
         private final CompositeStoppable stoppable = CompositeStoppable.stoppable();
-        private ProviderAnalyser analyser = new ProviderAnalyser();
 
         @Override
         public Service getFactory(Class<?> type) {
@@ -487,43 +491,49 @@ public class DefaultServiceRegistry implements ServiceRegistry, Closeable {
                 throw new UnsupportedOperationException("Unsupported service provider type: " + serviceProvider);
             }
             stoppable.add(serviceProvider);
-            analyser.addProviderForClassHierarchy(((SingletonService) serviceProvider).serviceClass, serviceProvider);
+            for (Class<?> serviceType : ((SingletonService) serviceProvider).getServiceTypes()) {
+                putServiceType(serviceType, serviceProvider);
+            }
         }
 
-        public void noLongerMutable() {
-            analyser = null;
+        private void putServiceType(Class<?> type, ServiceProvider serviceProvider) {
+            List<ServiceProvider> serviceProviders = providersByType.get(type);
+            if (serviceProviders == null) {
+                serviceProviders = new ArrayList<ServiceProvider>(2);
+                providersByType.put(type, serviceProviders);
+            }
+            serviceProviders.add(serviceProvider);
         }
+    }
 
-        private class ProviderAnalyser {
-            private Set<Class<?>> seen = new HashSet<Class<?>>(4, 0.5f);
-
-            public void addProviderForClassHierarchy(Class<?> serviceType, ServiceProvider serviceProvider) {
-                analyseType(serviceType, serviceProvider);
-                seen.clear();
-            }
+    /**
+     * Returns the types that a service of the given class can be located by, that is the class and all of its supertypes except {@link Object}.
+     */
+    private static Class<?>[] collectServiceTypes(Class<?> serviceClass) {
+        Set<Class<?>> types = new LinkedHashSet<Class<?>>();
+        collectServiceTypes(serviceClass, types);
+        return types.toArray(new Class<?>[0]);
+    }
 
-            private void analyseType(Class<?> type, ServiceProvider serviceProvider) {
-                if (type == null || type == Object.class) {
-                    return;
-                }
-                if (seen.add(type)) {
-                    putServiceType(type, serviceProvider);
-                    analyseType(type.getSuperclass(), serviceProvider);
-                    for (Class<?> iface : type.getInterfaces()) {
-                        analyseType(iface, serviceProvider);
-                    }
-                }
+    private static void collectServiceTypes(Class<?> type, Set<Class<?>> types) {
+        if (type == null || type == Object.class) {
+            return;
+        }
+        if (types.add(type)) {
+            collectServiceTypes(type.getSuperclass(), types);
+            for (Class<?> iface : type.getInterfaces()) {
+                collectServiceTypes(iface, types);
             }
+        }
+    }
 
-            private void putServiceType(Class<?> type, ServiceProvider serviceProvider) {
-                List<ServiceProvider> serviceProviders = providersByType.get(type);
-                if (serviceProviders == null) {
-                    serviceProviders = new ArrayList<ServiceProvider>(2);
-                    providersByType.put(type, serviceProviders);
-                }
-                serviceProviders.add(serviceProvider);
-            }
+    private static Class<?>[] cachedServiceTypes(Class<?> serviceClass) {
+        Class<?>[] serviceTypes = SERVICE_TYPES.get(serviceClass);
+        if (serviceTypes == null) {
+            serviceTypes = collectServiceTypes(serviceClass);
+            SERVICE_TYPES.putIfAbsent(serviceClass, serviceTypes);
         }
+        return serviceTypes;
     }
 
     private static Class<?> unwrap(Type type) {
@@ -620,6 +630,13 @@ public class DefaultServiceRegistry implements ServiceRegistry, Closeable {
             return getInstance();
         }
 
+        /**
+         * Returns the types that this service can be located by.
+         */
+        protected Class<?>[] getServiceTypes() {
+            return collectServiceTypes(serviceClass);
+        }
+
         private Service prepare() {
             if (state == BindState.BOUND) {
                 return this;
@@ -791,6 +808,11 @@ public class DefaultServiceRegistry implements ServiceRegistry, Closeable {
             return "Service " + format(method.getServiceType()) + " at " + method.getOwner().getSimpleName() + "." + method.getName() + "()";
         }
 
+        @Override
+        protected Class<?>[] getServiceTypes() {
+            return cachedServiceTypes(serviceClass);
+        }
+
         protected Type[] getParameterTypes() {
             return method.getParameterTypes();
         }
@@ -910,6 +932,11 @@ public class DefaultServiceRegistry implements ServiceRegistry, Closeable {
             return "Service " + format(method.getServiceType()) + " at " + method.getOwner().getSimpleName() + "." + method.getName() + "()";
         }
 
+        @Override
+        protected Class<?>[] getServiceTypes() {
+            return cachedServiceTypes(serviceClass);
+        }
+
         @Override
         protected void bind() {
             Type paramType = method.getParameterTypes()[0];
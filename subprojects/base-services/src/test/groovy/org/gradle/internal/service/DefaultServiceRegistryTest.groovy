@@ -138,6 +138,19 @@ class DefaultServiceRegistryTest extends Specification {
         registry.get(Number) == 12
     }
 
+    def "locates services created by factory method by supertype in each registry that uses the provider"() {
+        def registry1 = new DefaultServiceRegistry()
+        registry1.addProvider(new TestProvider())
+        def registry2 = new DefaultServiceRegistry()
+        registry2.addProvider(new TestProvider())
+
+        expect:
+        registry1.get(Number) == 12
+        registry2.get(Number) == 12
+        registry2.get(CharSequence) == "12"
+        registry1.get(CharSequence) == "12"
+    }
+
     def injectsServicesIntoProviderFactoryMethod() {
         def registry = new DefaultServiceRegistry()
         registry.addProvider(new Object() {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal;
+
+import org.gradle.api.Named;
+import org.gradle.api.NamedDomainObjectSet;
+import org.gradle.internal.reflect.DirectInstantiator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Queries a large set by type, the way plugins query the tasks of a project with {@code tasks.withType(SomeTask)}.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class DefaultNamedDomainObjectSetBenchmark {
+
+    private static final int ELEMENTS = 10000;
+
+    private DefaultNamedDomainObjectSet<Element> set;
+    private NamedDomainObjectSet<RareElement> rareElements;
+
+    @Setup
+    public void setup() {
+        set = new DefaultNamedDomainObjectSet<Element>(Element.class, DirectInstantiator.INSTANCE);
+        for (int i = 0; i < ELEMENTS; i++) {
+            set.add(i % 100 == 0 ? new RareElement("rare" + i) : new Element("element" + i));
+        }
+        rareElements = set.withType(RareElement.class);
+    }
+
+    @Benchmark
+    public void iterateWithType(Blackhole blackhole) {
+        for (RareElement element : rareElements) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public int sizeWithType() {
+        return rareElements.size();
+    }
+
+    @Benchmark
+    public Object namesWithType() {
+        return rareElements.getNames();
+    }
+
+    @Benchmark
+    public Object createAndIterateWithType(Blackhole blackhole) {
+        NamedDomainObjectSet<RareElement> elements = set.withType(RareElement.class);
+        for (RareElement element : elements) {
+            blackhole.consume(element);
+        }
+        return elements;
+    }
+
+    public static class Element implements Named {
+        private final String name;
+
+        public Element(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class RareElement extends Element {
+        public RareElement(String name) {
+            super(name);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.api.internal;
+
+import org.gradle.api.plugins.Convention;
+import org.gradle.internal.reflect.DirectInstantiator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accesses the members of a decorated object the way a build script does, where a name is looked up on the object itself,
+ * then on its extra properties, extensions and convention objects.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ExtensibleDynamicObjectBenchmark {
+
+    private ExtensibleDynamicObject dynamicObject;
+
+    @Setup
+    public void setup() {
+        dynamicObject = new ExtensibleDynamicObject(new SomeBean(), SomeBean.class, DirectInstantiator.INSTANCE);
+        Convention convention = dynamicObject.getConvention();
+        convention.add("someExtension", new SomeExtension());
+        convention.getPlugins().put("someConvention", new SomeConvention());
+    }
+
+    @Benchmark
+    public Object getProperty() {
+        return dynamicObject.tryGetProperty("version");
+    }
+
+    @Benchmark
+    public Object getExtension() {
+        return dynamicObject.tryGetProperty("someExtension");
+    }
+
+    @Benchmark
+    public Object getConventionProperty() {
+        return dynamicObject.tryGetProperty("sourceCompatibility");
+    }
+
+    @Benchmark
+    public Object getMissingProperty() {
+        return dynamicObject.tryGetProperty("unknown");
+    }
+
+    @Benchmark
+    public Object invokeMethod() {
+        return dynamicObject.tryInvokeMethod("include", "pattern");
+    }
+
+    @Benchmark
+    public Object invokeConventionMethod() {
+        return dynamicObject.tryInvokeMethod("sourceSet", "main");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object invokeConventionMethodConcurrently() {
+        return dynamicObject.tryInvokeMethod("sourceSet", "main");
+    }
+
+    @Benchmark
+    public Object invokeMissingMethod() {
+        return dynamicObject.tryInvokeMethod("unknown", "pattern");
+    }
+
+    public static class SomeBean {
+        private String version;
+        private final List<String> includes = new ArrayList<String>();
+
+        public String getVersion() {
+            return version;
+        }
+
+        public void setVersion(String version) {
+            this.version = version;
+        }
+
+        public SomeBean include(String pattern) {
+            if (includes.size() > 100) {
+                includes.clear();
+            }
+            includes.add(pattern);
+            return this;
+        }
+
+        public SomeBean include(String... patterns) {
+            for (String pattern : patterns) {
+                include(pattern);
+            }
+            return this;
+        }
+    }
+
+    public static class SomeExtension {
+        private boolean enabled;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class SomeConvention {
+        private String sourceCompatibility = "1.7";
+
+        public String getSourceCompatibility() {
+            return sourceCompatibility;
+        }
+
+        public void setSourceCompatibility(String sourceCompatibility) {
+            this.sourceCompatibility = sourceCompatibility;
+        }
+
+        public String sourceSet(String name) {
+            return name;
+        }
+
+        public String sourceSet(String name, String path) {
+            return name + ":" + path;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.internal.metaobject;
+
+import org.gradle.api.Action;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accesses the properties and methods of an extension-like bean the way a build script does, including the lookups of members
+ * that the bean does not have, which happen when the bean is one of several objects searched for a property or method.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class BeanDynamicObjectBenchmark {
+
+    private final BeanDynamicObject dynamicObject = new BeanDynamicObject(new SomeExtension()).withNotImplementsMissing();
+
+    @Benchmark
+    public Object getProperty() {
+        return dynamicObject.tryGetProperty("version");
+    }
+
+    @Benchmark
+    public Object getMissingProperty() {
+        return dynamicObject.tryGetProperty("unknown");
+    }
+
+    @Benchmark
+    public Object setProperty() {
+        return dynamicObject.trySetProperty("version", "1.2");
+    }
+
+    @Benchmark
+    public Object invokeMethod() {
+        return dynamicObject.tryInvokeMethod("include", "pattern");
+    }
+
+    @Benchmark
+    public Object invokeMissingMethod() {
+        return dynamicObject.tryInvokeMethod("unknown", "pattern");
+    }
+
+    public static class SomeExtension {
+        private String version;
+        private final List<String> includes = new ArrayList<String>();
+
+        public String getVersion() {
+            return version;
+        }
+
+        public void setVersion(String version) {
+            this.version = version;
+        }
+
+        public SomeExtension include(String pattern) {
+            if (includes.size() > 100) {
+                includes.clear();
+            }
+            includes.add(pattern);
+            return this;
+        }
+
+        public SomeExtension include(String... patterns) {
+            for (String pattern : patterns) {
+                include(pattern);
+            }
+            return this;
+        }
+
+        public SomeExtension include(Iterable<String> patterns) {
+            for (String pattern : patterns) {
+                include(pattern);
+            }
+            return this;
+        }
+
+        public SomeExtension include(Action<? super List<String>> action) {
+            action.execute(includes);
+            return this;
+        }
+    }
+}
@@ -64,6 +64,10 @@ import java.util.concurrent.locks.ReentrantLock;
  *     <li>Coercion from string to enum property is mixed in.</li>
  *     <li>{@link groovy.lang.GroovyObject} is mixed in to the class.</li>
  * </ul>
+ *
+ * <p>The generated class is defined in the class loader of the target class and is cached for the lifetime of the process, keyed by the target class. Class loader
+ * scopes that share a class loader also share the generated classes. The generated bytecode is not persisted, as it depends not only on the target class but also
+ * on the hierarchies of its supertypes and of its property types, and a persistent cache key would need to cover all of them.</p>
  */
 public abstract class AbstractClassGenerator implements ClassGenerator {
     private static final Map<Class<?>, Map<Class<?>, Class<?>>> GENERATED_CLASSES = new HashMap<Class<?>, Map<Class<?>, Class<?>>>();
@@ -91,8 +91,19 @@ public class CompositeDomainObjectSet<T> extends DelegatingDomainObjectSet<T> im
     public void addCollection(DomainObjectCollection<? extends T> collection) {
         if (!getStore().containsCollection(collection)) {
             getStore().addComposited(collection);
-            collection.all(backingSet.getEventRegister().getAddAction());
-            collection.whenObjectRemoved(backingSet.getEventRegister().getRemoveAction());
+            // Look up the actions on each event, so that the actions registered later are executed too
+            collection.all(new Action<T>() {
+                @Override
+                public void execute(T t) {
+                    backingSet.getEventRegister().getAddAction().execute(t);
+                }
+            });
+            collection.whenObjectRemoved(new Action<T>() {
+                @Override
+                public void execute(T t) {
+                    backingSet.getEventRegister().getRemoveAction().execute(t);
+                }
+            });
         }
     }
 
@@ -26,6 +26,7 @@ import org.gradle.api.internal.collections.CollectionEventRegister;
 import org.gradle.api.internal.collections.CollectionFilter;
 import org.gradle.api.specs.Spec;
 import org.gradle.api.specs.Specs;
+import org.gradle.internal.Cast;
 import org.gradle.internal.metaobject.AbstractDynamicObject;
 import org.gradle.internal.metaobject.DynamicInvokeResult;
 import org.gradle.internal.metaobject.DynamicObject;
@@ -36,9 +37,11 @@ import org.gradle.internal.metaobject.PropertyMixIn;
 import org.gradle.internal.reflect.Instantiator;
 import org.gradle.util.ConfigureUtil;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -154,6 +157,18 @@ public class DefaultNamedDomainObjectCollection<T> extends DefaultDomainObjectCo
         return index.filter(filter);
     }
 
+    /**
+     * Returns a live view of the elements selected by the given filter, in name order, when this can be served from an index. Returns null otherwise.
+     */
+    @Nullable
+    protected <S extends T> Collection<S> indexedElements(CollectionFilter<S> filter) {
+        Index<S> filtered = index.filter(filter);
+        if (filtered instanceof TypeIndex) {
+            return ((TypeIndex<S>) filtered).values();
+        }
+        return null;
+    }
+
     /**
      * Creates a filtered version of this collection.
      */
@@ -390,9 +405,19 @@ public class DefaultNamedDomainObjectCollection<T> extends DefaultDomainObjectCo
         <S extends T> Index<S> filter(CollectionFilter<S> filter);
     }
 
+    /**
+     * The index of all elements of a collection, by name.
+     *
+     * <p>Also keeps an index by name of the elements of each type that has been requested using a type only filter, so that {@code withType()} views do not need to
+     * scan all the elements of the collection to find those of the type. These indexes are created on first request and then updated as elements are added and removed.
+     * Each index holds an entry for each element of its type, so only the first few types requested are indexed. Views of other types filter all the elements.</p>
+     */
     protected static class UnfilteredIndex<T> implements Index<T> {
 
+        private static final int MAX_TYPE_INDEXES = 8;
+
         private final NavigableMap<String, T> map = new TreeMap<String, T>();
+        private Map<Class<?>, NavigableMap<String, T>> typeIndexes;
 
         @Override
         public NavigableMap<String, T> asMap() {
@@ -401,7 +426,16 @@ public class DefaultNamedDomainObjectCollection<T> extends DefaultDomainObjectCo
 
         @Override
         public void put(String name, T value) {
-            map.put(name, value);
+            T previous = map.put(name, value);
+            if (typeIndexes != null) {
+                for (Map.Entry<Class<?>, NavigableMap<String, T>> entry : typeIndexes.entrySet()) {
+                    if (entry.getKey().isInstance(value)) {
+                        entry.getValue().put(name, value);
+                    } else if (previous != null) {
+                        entry.getValue().remove(name);
+                    }
+                }
+            }
         }
 
         @Override
@@ -411,18 +445,101 @@ public class DefaultNamedDomainObjectCollection<T> extends DefaultDomainObjectCo
 
         @Override
         public void remove(String name) {
-            map.remove(name);
+            if (map.remove(name) != null && typeIndexes != null) {
+                for (NavigableMap<String, T> typeIndex : typeIndexes.values()) {
+                    typeIndex.remove(name);
+                }
+            }
         }
 
         @Override
         public void clear() {
             map.clear();
+            if (typeIndexes != null) {
+                for (NavigableMap<String, T> typeIndex : typeIndexes.values()) {
+                    typeIndex.clear();
+                }
+            }
         }
 
         @Override
         public <S extends T> Index<S> filter(CollectionFilter<S> filter) {
+            if (filter.isTypeOnly()) {
+                NavigableMap<String, T> typeIndex = typeIndex(filter.getType());
+                if (typeIndex != null) {
+                    return new TypeIndex<S>(this, filter, Cast.<NavigableMap<String, S>>uncheckedCast(typeIndex));
+                }
+            }
             return new FilteredIndex<S>(this, filter);
         }
+
+        @Nullable
+        private NavigableMap<String, T> typeIndex(Class<?> type) {
+            if (typeIndexes == null) {
+                typeIndexes = new HashMap<Class<?>, NavigableMap<String, T>>();
+            }
+            NavigableMap<String, T> typeIndex = typeIndexes.get(type);
+            if (typeIndex == null) {
+                if (typeIndexes.size() >= MAX_TYPE_INDEXES) {
+                    return null;
+                }
+                typeIndex = new TreeMap<String, T>();
+                for (Map.Entry<String, T> entry : map.entrySet()) {
+                    if (type.isInstance(entry.getValue())) {
+                        typeIndex.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                typeIndexes.put(type, typeIndex);
+            }
+            return typeIndex;
+        }
+    }
+
+    private static class TypeIndex<T> implements Index<T> {
+
+        private final Index<? super T> delegate;
+        private final CollectionFilter<T> filter;
+        private final NavigableMap<String, T> map;
+
+        public TypeIndex(Index<? super T> delegate, CollectionFilter<T> filter, NavigableMap<String, T> map) {
+            this.delegate = delegate;
+            this.filter = filter;
+            this.map = map;
+        }
+
+        @Override
+        public void put(String name, T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T get(String name) {
+            return map.get(name);
+        }
+
+        @Override
+        public void remove(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NavigableMap<String, T> asMap() {
+            return new TreeMap<String, T>(map);
+        }
+
+        Collection<T> values() {
+            return Collections.unmodifiableCollection(map.values());
+        }
+
+        @Override
+        public <S extends T> Index<S> filter(CollectionFilter<S> filter) {
+            return delegate.filter(this.filter.and(filter));
+        }
     }
 
     private static class FilteredIndex<T> implements Index<T> {
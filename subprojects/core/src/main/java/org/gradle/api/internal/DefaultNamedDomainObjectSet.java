@@ -26,14 +26,19 @@ import org.gradle.api.specs.Spec;
 import org.gradle.api.specs.Specs;
 import org.gradle.internal.reflect.Instantiator;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.TreeSet;
 
 public class DefaultNamedDomainObjectSet<T> extends DefaultNamedDomainObjectCollection<T> implements NamedDomainObjectSet<T> {
 
+    private final boolean elementsOrderedByName;
+
     public DefaultNamedDomainObjectSet(Class<? extends T> type, Instantiator instantiator, Namer<? super T> namer) {
         super(type, new TreeSet(new Namer.Comparator(namer)), instantiator, namer);
+        this.elementsOrderedByName = true;
     }
 
     public DefaultNamedDomainObjectSet(Class<? extends T> type, Instantiator instantiator) {
@@ -45,11 +50,13 @@ public class DefaultNamedDomainObjectSet<T> extends DefaultNamedDomainObjectColl
      */
     protected DefaultNamedDomainObjectSet(Class<? extends T> type, Set<T> store, CollectionEventRegister<T> eventRegister, Instantiator instantiator, Namer<? super T> namer) {
         super(type, store, eventRegister, new UnfilteredIndex<T>(), instantiator, namer);
+        this.elementsOrderedByName = false;
     }
 
     // should be protected, but use of the class generator forces it to be public
     public DefaultNamedDomainObjectSet(DefaultNamedDomainObjectSet<? super T> collection, CollectionFilter<T> filter, Instantiator instantiator, Namer<? super T> namer) {
         super(collection, filter, instantiator, namer);
+        this.elementsOrderedByName = collection.elementsOrderedByName;
     }
 
     @Override
@@ -58,6 +65,13 @@ public class DefaultNamedDomainObjectSet<T> extends DefaultNamedDomainObjectColl
     }
 
     protected <S extends T> Set<S> filteredStore(CollectionFilter<S> filter) {
+        if (elementsOrderedByName) {
+            // The index is ordered by name too, so can be iterated instead of all the elements
+            Collection<S> indexed = indexedElements(filter);
+            if (indexed != null) {
+                return new IndexedFilteredSet<T, S>(this, filter, indexed);
+            }
+        }
         return new FilteredSet<T, S>(this, filter);
     }
 
@@ -85,4 +99,39 @@ public class DefaultNamedDomainObjectSet<T> extends DefaultNamedDomainObjectColl
     public Set<T> findAll(Closure cl) {
         return findAll(cl, new LinkedHashSet<T>());
     }
+
+    private static class IndexedFilteredSet<T, S extends T> extends FilteredSet<T, S> {
+
+        private final Collection<S> indexed;
+
+        IndexedFilteredSet(Set<T> collection, CollectionFilter<S> filter, Collection<S> indexed) {
+            super(collection, filter);
+            this.indexed = indexed;
+        }
+
+        @Override
+        public Iterator<S> iterator() {
+            return new FilteringIterator<S, S>(indexed, filter);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return indexed.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return indexed.size();
+        }
+
+        @Override
+        public int estimatedSize() {
+            return indexed.size();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return indexed.toArray();
+        }
+    }
 }
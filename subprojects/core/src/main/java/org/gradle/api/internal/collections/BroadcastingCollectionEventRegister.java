@@ -16,27 +16,35 @@
 package org.gradle.api.internal.collections;
 
 import org.gradle.api.Action;
+import org.gradle.internal.Actions;
 import org.gradle.internal.Cast;
 import org.gradle.internal.MutableActionSet;
 
 public class BroadcastingCollectionEventRegister<T> implements CollectionEventRegister<T> {
-    private final MutableActionSet<T> addActions = new MutableActionSet<T>();
-    private final MutableActionSet<T> removeActions = new MutableActionSet<T>();
+    // Created when the first action is registered, as many collections are never observed
+    private MutableActionSet<T> addActions;
+    private MutableActionSet<T> removeActions;
 
     public Action<T> getAddAction() {
-        return addActions;
+        return addActions == null ? Actions.<T>doNothing() : addActions;
     }
 
     public Action<T> getRemoveAction() {
-        return removeActions;
+        return removeActions == null ? Actions.<T>doNothing() : removeActions;
     }
 
     public Action<? super T> registerAddAction(Action<? super T> addAction) {
+        if (addActions == null) {
+            addActions = new MutableActionSet<T>();
+        }
         addActions.add(addAction);
         return addAction;
     }
 
     public Action<? super T> registerRemoveAction(Action<? super T> removeAction) {
+        if (removeActions == null) {
+            removeActions = new MutableActionSet<T>();
+        }
         removeActions.add(removeAction);
         return removeAction;
     }
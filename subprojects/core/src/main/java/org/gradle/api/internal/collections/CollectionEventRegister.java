@@ -18,8 +18,14 @@ package org.gradle.api.internal.collections;
 import org.gradle.api.Action;
 
 public interface CollectionEventRegister<T> {
+    /**
+     * Returns the action to execute when an element is added. The returned action does not include the actions registered after this method is called.
+     */
     Action<T> getAddAction();
 
+    /**
+     * Returns the action to execute when an element is removed. The returned action does not include the actions registered after this method is called.
+     */
     Action<T> getRemoveAction();
 
     Action<? super T> registerAddAction(Action<? super T> addAction);
@@ -52,12 +52,29 @@ public class CollectionFilter<T> implements Spec<T> {
         }
     }
 
+    /**
+     * Returns true when this filter selects elements by their type alone.
+     */
+    public boolean isTypeOnly() {
+        return spec == Specs.SATISFIES_ALL;
+    }
+
     public boolean isSatisfiedBy(T element) {
         return filter(element) != null;
     }
 
+    /**
+     * Returns a filter that selects the elements selected by both this filter and the given filter.
+     */
     @SuppressWarnings("unchecked")
     public <S extends T> CollectionFilter<S> and(CollectionFilter<S> other) {
-        return new CollectionFilter<S>(other.type, Specs.intersect(spec, other.spec));
+        if (type.isAssignableFrom(other.type)) {
+            return new CollectionFilter<S>(other.type, Specs.intersect(spec, other.spec));
+        }
+        if (other.type.isAssignableFrom(type)) {
+            // Every element of this filter's type is also of the other type
+            return new CollectionFilter<S>((Class<? extends S>) type, Specs.intersect(spec, other.spec));
+        }
+        return new CollectionFilter<S>(other.type, Specs.intersect(this, other.spec));
     }
 }
\ No newline at end of file
@@ -28,19 +28,45 @@ import org.gradle.api.specs.Specs;
 import org.gradle.api.tasks.TaskCollection;
 import org.gradle.internal.reflect.Instantiator;
 
+import java.util.Iterator;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
 public class DefaultTaskCollection<T extends Task> extends DefaultNamedDomainObjectSet<T> implements TaskCollection<T> {
     private static final Task.Namer NAMER = new Task.Namer();
 
     protected final ProjectInternal project;
+    private final DefaultTaskCollection<? super T> parent;
 
     public DefaultTaskCollection(Class<T> type, Instantiator instantiator, ProjectInternal project) {
         super(type, instantiator, NAMER);
         this.project = project;
+        this.parent = null;
     }
 
     public DefaultTaskCollection(DefaultTaskCollection<? super T> collection, CollectionFilter<T> filter, Instantiator instantiator, ProjectInternal project) {
         super(collection, filter, instantiator, NAMER);
         this.project = project;
+        this.parent = collection;
+    }
+
+    /**
+     * Creates the lazily registered tasks of the given type, so that queries of this collection see them.
+     */
+    protected void realizePending(Class<?> type) {
+        if (parent != null) {
+            parent.realizePending(type);
+        }
+    }
+
+    /**
+     * Creates the lazily registered task with the given name, if any.
+     */
+    protected void realizePending(String name) {
+        if (parent != null) {
+            parent.realizePending(name);
+        }
     }
 
     protected <S extends T> DefaultTaskCollection<S> filtered(CollectionFilter<S> filter) {
@@ -62,6 +88,55 @@ public class DefaultTaskCollection<T extends Task> extends DefaultNamedDomainObj
         return matching(Specs.<T>convertClosureToSpec(spec));
     }
 
+    @Override
+    public Iterator<T> iterator() {
+        realizePending(getType());
+        return super.iterator();
+    }
+
+    @Override
+    public int size() {
+        realizePending(getType());
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        realizePending(getType());
+        return super.isEmpty();
+    }
+
+    @Override
+    public void all(Action<? super T> action) {
+        // Create the tasks before registering the action, so that it is not executed twice for them
+        realizePending(getType());
+        super.all(action);
+    }
+
+    @Override
+    public Set<T> findAll(Closure cl) {
+        realizePending(getType());
+        return super.findAll(cl);
+    }
+
+    @Override
+    public SortedMap<String, T> getAsMap() {
+        realizePending(getType());
+        return super.getAsMap();
+    }
+
+    @Override
+    public SortedSet<String> getNames() {
+        realizePending(getType());
+        return super.getNames();
+    }
+
+    @Override
+    public T findByName(String name) {
+        realizePending(name);
+        return super.findByName(name);
+    }
+
     public Action<? super T> whenTaskAdded(Action<? super T> action) {
         return whenObjectAdded(action);
     }
@@ -16,6 +16,8 @@
 package org.gradle.api.internal.tasks;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import groovy.lang.Closure;
 import org.apache.commons.lang.StringUtils;
@@ -58,6 +60,7 @@ public class DefaultTaskContainer extends DefaultTaskCollection<Task> implements
     private final ITaskFactory taskFactory;
     private final ProjectAccessListener projectAccessListener;
     private final Set<String> placeholders = Sets.newHashSet();
+    private final Map<String, Class<? extends Task>> pendingTasks = Maps.newHashMap();
     private final NamedEntityInstantiator<Task> instantiator;
 
     public DefaultTaskContainer(MutableModelNode modelNode, ProjectInternal project, Instantiator instantiator, ITaskFactory taskFactory, ProjectAccessListener projectAccessListener) {
@@ -88,6 +91,15 @@ public class DefaultTaskContainer extends DefaultTaskCollection<Task> implements
             modelNode.removeLink(name);
         }
 
+        if (pendingTasks.containsKey(name)) {
+            if (!replaceExisting) {
+                throw new InvalidUserDataException(String.format(
+                    "Cannot add %s as a task with that name already exists.", task));
+            }
+            pendingTasks.remove(name);
+            modelNode.removeLink(name);
+        }
+
         Task existing = findByNameWithoutRules(name);
         if (existing != null) {
             if (replaceExisting) {
@@ -266,21 +278,80 @@ public class DefaultTaskContainer extends DefaultTaskCollection<Task> implements
 
     public <T extends TaskInternal> void addPlaceholderAction(final String placeholderName, final Class<T> taskType, final Action<? super T> configure) {
         if (!modelNode.hasLink(placeholderName)) {
-            final ModelType<T> taskModelType = ModelType.of(taskType);
-            ModelPath path = MODEL_PATH.child(placeholderName);
-            modelNode.addLink(
-                ModelRegistrations.of(path)
-                    .action(ModelActionRole.Create, new TaskCreator<T>(placeholderName, taskType, configure, taskModelType))
-                    .withProjection(new UnmanagedModelProjection<T>(taskModelType))
-                    .descriptor(new SimpleModelRuleDescriptor("tasks.addPlaceholderAction(" + placeholderName + ")"))
-                    .build()
-            );
+            addTaskCreator(placeholderName, taskType, configure, "tasks.addPlaceholderAction(" + placeholderName + ")");
         }
         if (findByNameWithoutRules(placeholderName) == null) {
             placeholders.add(placeholderName);
         }
     }
 
+    @Override
+    public <T extends TaskInternal> void createLater(String name, Class<T> type, Action<? super T> configure) {
+        if (placeholders.remove(name)) {
+            modelNode.removeLink(name);
+        }
+        if (modelNode.hasLink(name) || findByNameWithoutRules(name) != null) {
+            throw new InvalidUserDataException(String.format(
+                "Cannot add task '%s' as a task with that name already exists.", project.absoluteProjectPath(name)));
+        }
+        addTaskCreator(name, type, configure, "tasks.createLater(" + name + ")");
+        pendingTasks.put(name, type);
+    }
+
+    @Override
+    public void configureWhenCreated(final String name, final Action<? super Task> action) {
+        Task existing = findByNameWithoutRules(name);
+        if (existing != null) {
+            action.execute(existing);
+            return;
+        }
+        whenObjectAdded(new Action<Task>() {
+            @Override
+            public void execute(Task task) {
+                if (task.getName().equals(name)) {
+                    action.execute(task);
+                }
+            }
+        });
+    }
+
+    @Override
+    public int getCreatedTaskCount() {
+        return getStore().size();
+    }
+
+    @Override
+    protected void realizePending(Class<?> type) {
+        if (pendingTasks.isEmpty()) {
+            return;
+        }
+        // Copy, as creating a task removes it from the pending tasks
+        for (Map.Entry<String, Class<? extends Task>> entry : Lists.newArrayList(pendingTasks.entrySet())) {
+            if (type.isAssignableFrom(entry.getValue())) {
+                realizePending(entry.getKey());
+            }
+        }
+    }
+
+    @Override
+    protected void realizePending(String name) {
+        if (pendingTasks.containsKey(name)) {
+            realizeTask(MODEL_PATH.child(name), ModelNode.State.Initialized);
+        }
+    }
+
+    private <T extends TaskInternal> void addTaskCreator(String name, Class<T> taskType, Action<? super T> configure, String descriptor) {
+        final ModelType<T> taskModelType = ModelType.of(taskType);
+        ModelPath path = MODEL_PATH.child(name);
+        modelNode.addLink(
+            ModelRegistrations.of(path)
+                .action(ModelActionRole.Create, new TaskCreator<T>(name, taskType, configure, taskModelType))
+                .withProjection(new UnmanagedModelProjection<T>(taskModelType))
+                .descriptor(new SimpleModelRuleDescriptor(descriptor))
+                .build()
+        );
+    }
+
     public <U extends Task> NamedDomainObjectContainer<U> containerWithType(Class<U> type) {
         throw new UnsupportedOperationException();
     }
@@ -321,6 +392,7 @@ public class DefaultTaskContainer extends DefaultTaskCollection<Task> implements
         @Override
         public void execute(final MutableModelNode mutableModelNode) {
             DefaultTaskContainer taskContainer = mutableModelNode.getParent().getPrivateData(ModelType.of(DefaultTaskContainer.class));
+            taskContainer.pendingTasks.remove(placeholderName);
             T task = taskContainer.taskFactory.create(placeholderName, taskType);
             configure.execute(task);
             taskContainer.add(task);
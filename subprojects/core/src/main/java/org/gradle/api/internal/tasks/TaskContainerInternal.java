@@ -34,6 +34,26 @@ public interface TaskContainerInternal extends TaskContainer, TaskResolver, Poly
 
     <T extends TaskInternal> void addPlaceholderAction(String placeholderName, Class<T> type, Action<? super T> configure);
 
+    /**
+     * Registers a task that is created and configured only when it is required: when it is looked up by name, selected for execution, or when a collection
+     * of tasks that may contain it is queried.
+     *
+     * Unlike a placeholder action, the task cannot be replaced by creating another task with the same name.
+     *
+     * @throws org.gradle.api.InvalidUserDataException when a task with the given name already exists.
+     */
+    <T extends TaskInternal> void createLater(String name, Class<T> type, Action<? super T> configure);
+
+    /**
+     * Executes the given action against the task with the given name when it is created, or immediately when the task already exists. Does not cause the task to be created.
+     */
+    void configureWhenCreated(String name, Action<? super Task> action);
+
+    /**
+     * Returns the number of tasks that have been created, without creating any of the tasks that are registered but not yet required.
+     */
+    int getCreatedTaskCount();
+
     /**
      * Force the task graph to come into existence.
      *
@@ -22,6 +22,13 @@ import org.gradle.util.SingleMessageLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Configures the projects of a build, one at a time, also when parallel execution is enabled.
+ *
+ * <p>Projects are not configured concurrently because the build logic of one project may freely read and change other projects, for example via {@code allprojects},
+ * {@code subprojects} or {@code project(':x')}, and none of the project model is thread safe. The project locks only guard task execution, and only some cross-project
+ * access is visible through {@link org.gradle.initialization.ProjectAccessListener}.</p>
+ */
 public class DefaultBuildConfigurer implements BuildConfigurer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultBuildConfigurer.class);
     private final ProjectConfigurer projectConfigurer;
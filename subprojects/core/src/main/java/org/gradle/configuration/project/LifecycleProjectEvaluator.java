@@ -67,7 +67,7 @@ public class LifecycleProjectEvaluator implements ProjectEvaluator {
         } finally {
             state.setExecuting(false);
             state.executed();
-            notifyAfterEvaluate(listener, project, state);
+            buildOperationExecutor.run(new NotifyAfterEvaluate(listener, project, state));
         }
     }
 
@@ -95,6 +95,30 @@ public class LifecycleProjectEvaluator implements ProjectEvaluator {
         state.executed(failure);
     }
 
+    private class NotifyAfterEvaluate implements RunnableBuildOperation {
+
+        private final ProjectEvaluationListener listener;
+        private final ProjectInternal project;
+        private final ProjectStateInternal state;
+
+        private NotifyAfterEvaluate(ProjectEvaluationListener listener, ProjectInternal project, ProjectStateInternal state) {
+            this.listener = listener;
+            this.project = project;
+            this.state = state;
+        }
+
+        @Override
+        public void run(BuildOperationContext context) {
+            notifyAfterEvaluate(listener, project, state);
+        }
+
+        @Override
+        public BuildOperationDescriptor.Builder description() {
+            return BuildOperationDescriptor.displayName("Notify afterEvaluate listeners of " + project.getIdentityPath());
+        }
+
+    }
+
     private class ConfigureProject implements RunnableBuildOperation {
 
         private ProjectInternal project;
@@ -276,6 +276,7 @@ public class DefaultTaskExecutionPlan implements TaskExecutionPlan {
     }
 
     public void determineExecutionPlan() {
+        // The queue of nodes to visit is stored in reverse order, so that nodes can be added to and removed from the head of the queue in constant time
         List<TaskInfoInVisitingSegment> nodeQueue = Lists.newArrayList(Iterables.transform(entryTasks, new Function<TaskInfo, TaskInfoInVisitingSegment>() {
             int index;
 
@@ -283,6 +284,7 @@ public class DefaultTaskExecutionPlan implements TaskExecutionPlan {
                 return new TaskInfoInVisitingSegment(taskInfo, index++);
             }
         }));
+        Collections.reverse(nodeQueue);
         int visitingSegmentCounter = nodeQueue.size();
 
         HashMultimap<TaskInfo, Integer> visitingNodes = HashMultimap.create();
@@ -291,12 +293,12 @@ public class DefaultTaskExecutionPlan implements TaskExecutionPlan {
         HashMap<TaskInfo, Integer> planBeforeVisiting = new HashMap<TaskInfo, Integer>();
 
         while (!nodeQueue.isEmpty()) {
-            TaskInfoInVisitingSegment taskInfoInVisitingSegment = nodeQueue.get(0);
+            TaskInfoInVisitingSegment taskInfoInVisitingSegment = nodeQueue.get(nodeQueue.size() - 1);
             int currentSegment = taskInfoInVisitingSegment.visitingSegment;
             TaskInfo taskNode = taskInfoInVisitingSegment.taskInfo;
 
             if (taskNode.isIncludeInGraph() || executionPlan.containsKey(taskNode.getTask())) {
-                nodeQueue.remove(0);
+                nodeQueue.remove(nodeQueue.size() - 1);
                 visitingNodes.remove(taskNode, currentSegment);
                 maybeRemoveProcessedShouldRunAfterEdge(walkedShouldRunAfterEdges, taskNode);
                 continue;
@@ -327,12 +329,12 @@ public class DefaultTaskExecutionPlan implements TaskExecutionPlan {
                             onOrderingCycle();
                         }
                     }
-                    nodeQueue.add(0, new TaskInfoInVisitingSegment(successor, currentSegment));
+                    nodeQueue.add(new TaskInfoInVisitingSegment(successor, currentSegment));
                 }
                 path.push(taskNode);
             } else {
                 // Have visited this task's dependencies - add it to the end of the plan
-                nodeQueue.remove(0);
+                nodeQueue.remove(nodeQueue.size() - 1);
                 maybeRemoveProcessedShouldRunAfterEdge(walkedShouldRunAfterEdges, taskNode);
                 visitingNodes.remove(taskNode, currentSegment);
                 path.pop();
@@ -404,10 +406,10 @@ public class DefaultTaskExecutionPlan implements TaskExecutionPlan {
     private void restoreQueue(List<TaskInfoInVisitingSegment> nodeQueue, HashMultimap<TaskInfo, Integer> visitingNodes, GraphEdge toBeRemoved) {
         TaskInfoInVisitingSegment nextInQueue = null;
         while (nextInQueue == null || !toBeRemoved.from.equals(nextInQueue.taskInfo)) {
-            nextInQueue = nodeQueue.get(0);
+            nextInQueue = nodeQueue.get(nodeQueue.size() - 1);
             visitingNodes.remove(nextInQueue.taskInfo, nextInQueue.visitingSegment);
             if (!toBeRemoved.from.equals(nextInQueue.taskInfo)) {
-                nodeQueue.remove(0);
+                nodeQueue.remove(nodeQueue.size() - 1);
             }
         }
     }
@@ -448,7 +450,7 @@ public class DefaultTaskExecutionPlan implements TaskExecutionPlan {
 
     /**
      * Given a finalizer task, determine where in the current node queue that it should be inserted.
-     * The finalizer should be inserted after any of it's preceding tasks.
+     * The node queue is held in reverse order, so the finalizer is inserted before the lowest index of any of its preceding tasks, so that it is visited after all of them.
      */
     private int finalizerTaskPosition(TaskInfo finalizer, final List<TaskInfoInVisitingSegment> nodeQueue) {
         if (nodeQueue.size() == 0) {
@@ -458,14 +460,15 @@ public class DefaultTaskExecutionPlan implements TaskExecutionPlan {
         Set<TaskInfo> precedingTasks = getAllPrecedingTasks(finalizer);
         Set<Integer> precedingTaskIndices = CollectionUtils.collect(precedingTasks, new Transformer<Integer, TaskInfo>() {
             public Integer transform(final TaskInfo dependsOnTask) {
-                return Iterables.indexOf(nodeQueue, new Predicate<TaskInfoInVisitingSegment>() {
-                    public boolean apply(TaskInfoInVisitingSegment taskInfoInVisitingSegment) {
-                        return taskInfoInVisitingSegment.taskInfo.equals(dependsOnTask);
+                for (int i = nodeQueue.size() - 1; i >= 0; i--) {
+                    if (nodeQueue.get(i).taskInfo.equals(dependsOnTask)) {
+                        return i;
                     }
-                });
+                }
+                return nodeQueue.size();
             }
         });
-        return Collections.max(precedingTaskIndices) + 1;
+        return Collections.min(precedingTaskIndices);
     }
 
     private Set<TaskInfo> getAllPrecedingTasks(TaskInfo finalizer) {
@@ -25,6 +25,14 @@ import org.gradle.groovy.scripts.ScriptSource;
 import org.gradle.internal.Cast;
 import org.gradle.internal.hash.HashCode;
 
+/**
+ * Reuses compiled and loaded script classes across the builds run by this process.
+ *
+ * <p>Loaded classes are reused only when the script is compiled against the very same class loader, not merely a class loader with the same hash. Classes loaded by two
+ * class loaders with the same classpath are still distinct classes, so a script class linked against one class loader cannot be used with the other. Compiled output is
+ * shared between equivalent class loaders, and between processes, by {@link FileCacheBackedScriptClassCompiler}, which keys its caches by the script content and the
+ * class loader hash.</p>
+ */
 public class CrossBuildInMemoryCachingScriptClassCache {
     private final CrossBuildInMemoryCache<ScriptCacheKey, CachedCompiledScript> cachedCompiledScripts;
     private final ScriptSourceHasher hasher;
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.buildevents;
+
+import org.gradle.BuildAdapter;
+import org.gradle.BuildResult;
+import org.gradle.api.internal.project.ProjectInternal;
+import org.gradle.api.internal.project.ProjectRegistry;
+import org.gradle.api.internal.tasks.TaskContainerInternal;
+import org.gradle.api.logging.Logger;
+
+/**
+ * Reports how many of the tasks registered by the build were actually created. Tasks registered lazily or using a placeholder action are only created when required.
+ */
+public class TaskRealizationStatisticsReporter extends BuildAdapter {
+    private final ProjectRegistry<ProjectInternal> projectRegistry;
+    private final Logger logger;
+
+    public TaskRealizationStatisticsReporter(ProjectRegistry<ProjectInternal> projectRegistry, Logger logger) {
+        this.projectRegistry = projectRegistry;
+        this.logger = logger;
+    }
+
+    @Override
+    public void buildFinished(BuildResult result) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        int registered = 0;
+        int created = 0;
+        for (ProjectInternal project : projectRegistry.getAllProjects()) {
+            TaskContainerInternal tasks = project.getTasks();
+            registered += tasks.getNames().size();
+            created += tasks.getCreatedTaskCount();
+        }
+        if (registered > 0) {
+            logger.info("Created {} of {} registered tasks for {}.", created, registered, result.getGradle());
+        }
+    }
+}
@@ -24,6 +24,7 @@ import groovy.lang.MetaMethod;
 import groovy.lang.MetaProperty;
 import groovy.lang.MissingMethodException;
 import groovy.lang.MissingPropertyException;
+import org.codehaus.groovy.runtime.GroovyCategorySupport;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
 import org.codehaus.groovy.runtime.MetaClassHelper;
 import org.codehaus.groovy.runtime.metaclass.MultipleSetterProperty;
@@ -57,6 +58,12 @@ public class BeanDynamicObject extends AbstractDynamicObject {
     private static final Field MISSING_PROPERTY_GET_METHOD;
     private static final Field MISSING_PROPERTY_SET_METHOD;
     private static final Field MISSING_METHOD_METHOD;
+    private static final MetaClassLookupCache<MetaMethod> META_METHODS = new MetaClassLookupCache<MetaMethod>() {
+        @Override
+        protected MetaMethod create(MetaClass metaClass, String name, Class<?>[] argumentTypes) {
+            return metaClass.pickMethod(name, argumentTypes);
+        }
+    };
     private final Object bean;
     private final boolean includeProperties;
     private final MetaClassAdapter delegate;
@@ -508,6 +515,11 @@ public class BeanDynamicObject extends AbstractDynamicObject {
 
         @Nullable
         protected MetaMethod lookupMethod(MetaClass metaClass, String name, Class[] arguments) {
+            // Plain meta-classes cannot change once initialized, unlike ExpandoMetaClass and friends.
+            // Methods added by categories are visible only to the threads using the category, so are not cached either
+            if (metaClass.getClass() == MetaClassImpl.class && !GroovyCategorySupport.hasCategoryInCurrentThread()) {
+                return META_METHODS.get(metaClass, name, arguments);
+            }
             return metaClass.pickMethod(name, arguments);
         }
 
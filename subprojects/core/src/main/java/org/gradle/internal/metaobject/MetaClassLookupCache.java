@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.internal.metaobject;
+
+import com.google.common.collect.MapMaker;
+import groovy.lang.MetaClass;
+import org.gradle.internal.Cast;
+
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe cache of the result of looking up a member of a meta-class, such as a meta-method, by name and argument types.
+ * Missing members are cached too. Meta-classes, argument types and cached members are referenced weakly, so that the cache does not
+ * keep any class loaders alive.
+ *
+ * <p>Each meta-class has its own concurrent map of members, so lookups do not block each other. Two threads may create the same member
+ * concurrently, in which case the result of one of them is cached.</p>
+ *
+ * <p>Should only be used for meta-classes that do not change once they have been initialized, as the cache is not invalidated when the meta-class changes.
+ * Replacing the meta-class of a type is fine, as the replacement is cached separately.</p>
+ *
+ * @param <T> the type of member stored in the cache.
+ */
+abstract class MetaClassLookupCache<T> {
+    private static final Object MISSING = new Object();
+    private final ConcurrentMap<MetaClass, ConcurrentMap<MemberKey, Object>> cache = new MapMaker().weakKeys().makeMap();
+
+    @Nullable
+    public T get(MetaClass metaClass, String name, Class<?>[] argumentTypes) {
+        ConcurrentMap<MemberKey, Object> members = cache.get(metaClass);
+        if (members == null) {
+            members = new MapMaker().weakValues().makeMap();
+            ConcurrentMap<MemberKey, Object> existing = cache.putIfAbsent(metaClass, members);
+            if (existing != null) {
+                members = existing;
+            }
+        }
+        Object member = members.get(new LookupKey(name, argumentTypes));
+        if (member == null) {
+            T value = create(metaClass, name, argumentTypes);
+            member = value == null ? MISSING : value;
+            members.put(new StoredKey(name, argumentTypes), member);
+        }
+        return member == MISSING ? null : Cast.<T>uncheckedCast(member);
+    }
+
+    @Nullable
+    protected abstract T create(MetaClass metaClass, String name, Class<?>[] argumentTypes);
+
+    /**
+     * The name and argument types of a member. A lookup uses the argument types it is given, and the cache holds keys that reference the argument types weakly.
+     * The two kinds of key are equal when they have the same name and argument types.
+     */
+    private abstract static class MemberKey {
+        private final String name;
+        private final int hashCode;
+
+        MemberKey(String name, Class<?>[] argumentTypes) {
+            this.name = name;
+            this.hashCode = 31 * name.hashCode() + Arrays.hashCode(argumentTypes);
+        }
+
+        abstract int getArgumentCount();
+
+        /**
+         * Returns the type of the given argument, {@link NullArgument} for a null argument, or null when the type has been garbage collected.
+         */
+        @Nullable
+        abstract Class<?> getArgumentType(int index);
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof MemberKey)) {
+                return false;
+            }
+            MemberKey other = (MemberKey) obj;
+            if (hashCode != other.hashCode || !name.equals(other.name) || getArgumentCount() != other.getArgumentCount()) {
+                return false;
+            }
+            for (int i = 0; i < getArgumentCount(); i++) {
+                Class<?> argumentType = getArgumentType(i);
+                if (argumentType == null || argumentType != other.getArgumentType(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class LookupKey extends MemberKey {
+        private final Class<?>[] argumentTypes;
+
+        LookupKey(String name, Class<?>[] argumentTypes) {
+            super(name, argumentTypes);
+            this.argumentTypes = argumentTypes;
+        }
+
+        @Override
+        int getArgumentCount() {
+            return argumentTypes.length;
+        }
+
+        @Override
+        Class<?> getArgumentType(int index) {
+            Class<?> argumentType = argumentTypes[index];
+            return argumentType == null ? NullArgument.class : argumentType;
+        }
+    }
+
+    private static class StoredKey extends MemberKey {
+        private final WeakReference<Class<?>>[] argumentTypes;
+
+        StoredKey(String name, Class<?>[] argumentTypes) {
+            super(name, argumentTypes);
+            this.argumentTypes = Cast.uncheckedCast(new WeakReference<?>[argumentTypes.length]);
+            for (int i = 0; i < argumentTypes.length; i++) {
+                Class<?> argumentType = argumentTypes[i];
+                this.argumentTypes[i] = new WeakReference<Class<?>>(argumentType == null ? NullArgument.class : argumentType);
+            }
+        }
+
+        @Override
+        int getArgumentCount() {
+            return argumentTypes.length;
+        }
+
+        @Override
+        Class<?> getArgumentType(int index) {
+            return argumentTypes[index].get();
+        }
+    }
+
+    /**
+     * Stands in for the type of a null argument.
+     */
+    private static class NullArgument {
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.profile;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import org.gradle.StartParameter;
+import org.gradle.api.internal.plugins.ApplyPluginBuildOperationType;
+import org.gradle.configuration.ApplyScriptPluginBuildOperationType;
+import org.gradle.internal.UncheckedException;
+import org.gradle.internal.concurrent.Stoppable;
+import org.gradle.internal.event.ListenerManager;
+import org.gradle.internal.progress.BuildOperationDescriptor;
+import org.gradle.internal.progress.BuildOperationListener;
+import org.gradle.internal.progress.OperationFinishEvent;
+import org.gradle.internal.progress.OperationProgressEvent;
+import org.gradle.internal.progress.OperationStartEvent;
+import org.gradle.util.GFileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates the self-time of build operations, to attribute build time, in particular configuration time, to the plugins and scripts that spend it.
+ * Can be enabled for any build with `-Dorg.gradle.internal.operations.profile=«path-base»`.
+ *
+ * Imposes no overhead when not enabled.
+ * When enabled, only a map entry per running operation and a counter per distinct operation stack are kept in memory, no events are written during the build.
+ *
+ * Two files are created when the build session ends:
+ *
+ * - «path-base»-stacks.txt: the self-time in milliseconds of each distinct stack of operations, in the “collapsed stacks” format understood by flame graph tools
+ * - «path-base»-summary.txt: the self-time in milliseconds of each operation name, across all stacks, most expensive first
+ *
+ * Plugin applications are named by plugin id, or plugin class when the plugin has no id, and script applications by the script's file or URI.
+ * As these names do not include the target, the summary shows the total cost of a plugin or script over all the projects it is applied to.
+ * Other operations are named by their operation name.
+ * Work done by project evaluation listeners, such as `afterEvaluate { }` actions, is attributed to the “Notify afterEvaluate listeners” operation of its project,
+ * or to the plugins the listeners apply.
+ * Work done by other callbacks, such as `whenTaskAdded { }` actions, is attributed to the operation that triggers the callback.
+ *
+ * The self-time of an operation is its duration less the duration of its children.
+ * Children that run in parallel may overlap, in which case the self-time of their parent is reported as 0.
+ *
+ * The «path-base» param is optional.
+ * If invoked as `-Dorg.gradle.internal.operations.profile`, a base value of "operations" will be used.
+ */
+public class BuildOperationProfile implements Stoppable {
+
+    public static final String SYSPROP = "org.gradle.internal.operations.profile";
+
+    private final String basePath;
+    private final ListenerManager listenerManager;
+
+    private final ProfilingListener listener = new ProfilingListener();
+
+    public BuildOperationProfile(StartParameter startParameter, ListenerManager listenerManager) {
+        this.listenerManager = listenerManager;
+
+        Map<String, String> sysProps = startParameter.getSystemPropertiesArgs();
+        String basePath = sysProps.get(SYSPROP);
+        if (basePath == null) {
+            basePath = System.getProperty(SYSPROP);
+        }
+
+        if (basePath == null || basePath.equals(Boolean.FALSE.toString())) {
+            this.basePath = null;
+            return;
+        }
+
+        this.basePath = basePath;
+        listenerManager.addListener(listener);
+    }
+
+    @Override
+    public void stop() {
+        if (basePath == null) {
+            return;
+        }
+
+        listenerManager.removeListener(listener);
+
+        try {
+            writeStacks();
+            writeSummary();
+        } catch (IOException e) {
+            throw UncheckedException.throwAsUncheckedException(e);
+        }
+    }
+
+    private void writeStacks() throws IOException {
+        List<String> lines = new ArrayList<String>();
+        for (Map.Entry<String, Long> entry : listener.getSelfTimeByStack().entrySet()) {
+            lines.add(entry.getKey() + " " + entry.getValue());
+        }
+        write("-stacks.txt", lines);
+    }
+
+    private void writeSummary() throws IOException {
+        List<Map.Entry<String, Long>> entries = new ArrayList<Map.Entry<String, Long>>(listener.getSelfTimeByName().entrySet());
+        Collections.sort(entries, new Comparator<Map.Entry<String, Long>>() {
+            @Override
+            public int compare(Map.Entry<String, Long> o1, Map.Entry<String, Long> o2) {
+                int result = o2.getValue().compareTo(o1.getValue());
+                return result != 0 ? result : o1.getKey().compareTo(o2.getKey());
+            }
+        });
+        List<String> lines = new ArrayList<String>(entries.size());
+        for (Map.Entry<String, Long> entry : entries) {
+            lines.add(entry.getValue() + "ms " + entry.getKey());
+        }
+        write("-summary.txt", lines);
+    }
+
+    private void write(String suffix, List<String> lines) throws IOException {
+        File file = new File((basePath.trim().isEmpty() ? "operations" : basePath) + suffix).getAbsoluteFile();
+        GFileUtils.mkdirs(file.getParentFile());
+        Files.asCharSink(file, Charsets.UTF_8).writeLines(lines);
+    }
+
+    private static String frameName(BuildOperationDescriptor buildOperation) {
+        Object details = buildOperation.getDetails();
+        String name;
+        if (details instanceof ApplyPluginBuildOperationType.Details) {
+            ApplyPluginBuildOperationType.Details pluginDetails = (ApplyPluginBuildOperationType.Details) details;
+            name = "Apply plugin " + (pluginDetails.getPluginId() != null ? pluginDetails.getPluginId() : pluginDetails.getPluginClass().getName());
+        } else if (details instanceof ApplyScriptPluginBuildOperationType.Details) {
+            ApplyScriptPluginBuildOperationType.Details scriptDetails = (ApplyScriptPluginBuildOperationType.Details) details;
+            name = "Apply script " + (scriptDetails.getFile() != null ? scriptDetails.getFile() : scriptDetails.getUri());
+        } else {
+            name = buildOperation.getName();
+        }
+        // ';' separates frames and line breaks separate stacks in the collapsed format
+        return name.replace(';', ',').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private static class RunningOperation {
+        final String name;
+        final String stack;
+        long childTime;
+
+        RunningOperation(String name, String stack) {
+            this.name = name;
+            this.stack = stack;
+        }
+    }
+
+    private static class ProfilingListener implements BuildOperationListener {
+
+        private final Map<Object, RunningOperation> running = new HashMap<Object, RunningOperation>();
+        private final Map<String, Long> selfTimeByStack = new TreeMap<String, Long>();
+        private final Map<String, Long> selfTimeByName = new HashMap<String, Long>();
+
+        @Override
+        public synchronized void started(BuildOperationDescriptor buildOperation, OperationStartEvent startEvent) {
+            String name = frameName(buildOperation);
+            RunningOperation parent = buildOperation.getParentId() == null ? null : running.get(buildOperation.getParentId());
+            String stack = parent == null ? name : parent.stack + ";" + name;
+            running.put(buildOperation.getId(), new RunningOperation(name, stack));
+        }
+
+        @Override
+        public void progress(BuildOperationDescriptor buildOperation, OperationProgressEvent progressEvent) {
+        }
+
+        @Override
+        public synchronized void finished(BuildOperationDescriptor buildOperation, OperationFinishEvent finishEvent) {
+            RunningOperation operation = running.remove(buildOperation.getId());
+            if (operation == null) {
+                // Started before the profile was enabled
+                return;
+            }
+            long duration = finishEvent.getEndTime() - finishEvent.getStartTime();
+            long selfTime = Math.max(0, duration - operation.childTime);
+            add(selfTimeByStack, operation.stack, selfTime);
+            add(selfTimeByName, operation.name, selfTime);
+
+            RunningOperation parent = buildOperation.getParentId() == null ? null : running.get(buildOperation.getParentId());
+            if (parent != null) {
+                parent.childTime += duration;
+            }
+        }
+
+        private static void add(Map<String, Long> times, String key, long time) {
+            Long current = times.get(key);
+            times.put(key, current == null ? time : current + time);
+        }
+
+        synchronized Map<String, Long> getSelfTimeByStack() {
+            return new TreeMap<String, Long>(selfTimeByStack);
+        }
+
+        synchronized Map<String, Long> getSelfTimeByName() {
+            return new HashMap<String, Long>(selfTimeByName);
+        }
+    }
+}
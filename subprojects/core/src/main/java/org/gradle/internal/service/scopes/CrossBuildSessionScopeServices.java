@@ -29,6 +29,7 @@ import org.gradle.internal.operations.BuildOperationIdFactory;
 import org.gradle.internal.operations.DefaultBuildOperationQueueFactory;
 import org.gradle.internal.operations.notify.BuildOperationNotificationBridge;
 import org.gradle.internal.operations.notify.BuildOperationNotificationListenerRegistrar;
+import org.gradle.internal.operations.profile.BuildOperationProfile;
 import org.gradle.internal.operations.trace.BuildOperationTrace;
 import org.gradle.internal.progress.BuildOperationListenerManager;
 import org.gradle.internal.progress.BuildProgressLogger;
@@ -60,6 +61,7 @@ import java.io.IOException;
 public class CrossBuildSessionScopeServices implements Closeable {
 
     private final BuildOperationTrace buildOperationTrace;
+    private final BuildOperationProfile buildOperationProfile;
     private final BuildOperationNotificationBridge buildOperationNotificationBridge;
 
     private final Services services;
@@ -72,6 +74,7 @@ public class CrossBuildSessionScopeServices implements Closeable {
         ListenerManager crossSessionListenerManager = globalListenerManager.createChild();
         this.buildOperationListenerManager = new DefaultBuildOperationListenerManager(crossSessionListenerManager);
         this.buildOperationTrace = new BuildOperationTrace(startParameter, globalListenerManager);
+        this.buildOperationProfile = new BuildOperationProfile(startParameter, globalListenerManager);
         this.buildOperationNotificationBridge = new BuildOperationNotificationBridge(buildOperationListenerManager, globalListenerManager);
     }
 
@@ -99,6 +102,7 @@ public class CrossBuildSessionScopeServices implements Closeable {
     public void close() throws IOException {
         new CompositeStoppable().add(
             buildOperationTrace,
+            buildOperationProfile,
             buildOperationNotificationBridge,
             services
         ).stop();
@@ -16,9 +16,8 @@
 
 package org.gradle.process.internal.worker;
 
-import org.gradle.internal.logging.events.LogEvent;
+import org.gradle.internal.logging.events.BatchOutputEvent;
 import org.gradle.internal.logging.events.OutputEventListener;
-import org.gradle.internal.logging.events.StyledTextOutputEvent;
 import org.gradle.process.internal.worker.child.WorkerLoggingProtocol;
 
 public class DefaultWorkerLoggingProtocol implements WorkerLoggingProtocol {
@@ -29,13 +28,8 @@ public class DefaultWorkerLoggingProtocol implements WorkerLoggingProtocol {
     }
 
     @Override
-    public void sendOutputEvent(LogEvent event) {
-        outputEventListener.onOutput(event);
-    }
-
-    @Override
-    public void sendOutputEvent(StyledTextOutputEvent event) {
-        outputEventListener.onOutput(event);
+    public void sendOutputEvents(BatchOutputEvent events) {
+        outputEventListener.onOutput(events);
     }
 
 }
@@ -21,6 +21,7 @@ import org.gradle.api.logging.LogLevel;
 import org.gradle.initialization.GradleUserHomeDirProvider;
 import org.gradle.internal.UncheckedException;
 import org.gradle.internal.concurrent.ExecutorFactory;
+import org.gradle.internal.concurrent.ManagedScheduledExecutor;
 import org.gradle.internal.event.DefaultListenerManager;
 import org.gradle.internal.event.ListenerManager;
 import org.gradle.internal.io.ClassLoaderObjectInputStream;
@@ -110,7 +111,8 @@ public class SystemApplicationClassLoaderWorker implements Callable<Void> {
             }
 
             connection = messagingServices.get(MessagingClient.class).getConnection(serverAddress);
-            workerLogEventListener = configureLogging(loggingManager, connection);
+            workerLogEventListener = configureLogging(loggingManager, connection, messagingServices);
+            workerServices.add(WorkerLogEventListener.class, workerLogEventListener);
             if (shouldPublishJvmMemoryInfo) {
                 configureWorkerJvmMemoryInfoEvents(workerServices, connection);
             }
@@ -134,6 +136,7 @@ public class SystemApplicationClassLoaderWorker implements Callable<Void> {
         } finally {
             if (workerLogEventListener != null) {
                 loggingManager.removeOutputEventListener(workerLogEventListener);
+                workerLogEventListener.stop();
             }
             if (connection != null) {
                 connection.stop();
@@ -145,10 +148,11 @@ public class SystemApplicationClassLoaderWorker implements Callable<Void> {
         return null;
     }
 
-    private WorkerLogEventListener configureLogging(LoggingManagerInternal loggingManager, ObjectConnection connection) {
+    private WorkerLogEventListener configureLogging(LoggingManagerInternal loggingManager, ObjectConnection connection, MessagingServices services) {
         connection.useParameterSerializers(WorkerLoggingSerializer.create());
         WorkerLoggingProtocol workerLoggingProtocol = connection.addOutgoing(WorkerLoggingProtocol.class);
-        WorkerLogEventListener workerLogEventListener = new WorkerLogEventListener(workerLoggingProtocol);
+        ManagedScheduledExecutor executor = services.get(ExecutorFactory.class).createScheduled("Worker log event batching", 1);
+        WorkerLogEventListener workerLogEventListener = new WorkerLogEventListener(workerLoggingProtocol, executor);
         loggingManager.addOutputEventListener(workerLogEventListener);
         return workerLogEventListener;
     }
@@ -16,24 +16,81 @@
 
 package org.gradle.process.internal.worker.child;
 
+import org.gradle.internal.concurrent.ManagedScheduledExecutor;
+import org.gradle.internal.concurrent.Stoppable;
+import org.gradle.internal.logging.events.BatchOutputEvent;
 import org.gradle.internal.logging.events.LogEvent;
 import org.gradle.internal.logging.events.OutputEvent;
 import org.gradle.internal.logging.events.OutputEventListener;
 import org.gradle.internal.logging.events.StyledTextOutputEvent;
 
-public class WorkerLogEventListener implements OutputEventListener {
-    private WorkerLoggingProtocol workerLoggingProtocol;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
-    public WorkerLogEventListener(WorkerLoggingProtocol workerLoggingProtocol) {
+/**
+ * Forwards log events from the worker process to the build process.
+ *
+ * <p>Events are sent in batches, in the order they were generated. A batch is sent once it is full, or shortly after its first event was generated, so a chatty worker does not
+ * cost the build process a message per log line while a quiet worker's output still shows up promptly.</p>
+ */
+public class WorkerLogEventListener implements OutputEventListener, Stoppable {
+    static final int MAX_BATCH_SIZE = 1000;
+    static final long MAX_BATCH_DELAY_MS = 20;
+
+    private final WorkerLoggingProtocol workerLoggingProtocol;
+    private final ManagedScheduledExecutor executor;
+    private final Object lock = new Object();
+    private List<OutputEvent> batch = new ArrayList<OutputEvent>();
+
+    public WorkerLogEventListener(WorkerLoggingProtocol workerLoggingProtocol, ManagedScheduledExecutor executor) {
         this.workerLoggingProtocol = workerLoggingProtocol;
+        this.executor = executor;
     }
 
     @Override
     public void onOutput(OutputEvent event) {
-        if (event instanceof LogEvent) {
-            workerLoggingProtocol.sendOutputEvent((LogEvent) event);
-        } else if (event instanceof StyledTextOutputEvent) {
-            workerLoggingProtocol.sendOutputEvent((StyledTextOutputEvent) event);
+        if (!(event instanceof LogEvent) && !(event instanceof StyledTextOutputEvent)) {
+            return;
+        }
+        synchronized (lock) {
+            batch.add(event);
+            if (batch.size() >= MAX_BATCH_SIZE) {
+                sendPendingEvents();
+            } else if (batch.size() == 1) {
+                executor.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        flush();
+                    }
+                }, MAX_BATCH_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Sends any pending events. Should be called before the worker sends the response to a request, so that the build process receives the output of the work before its result.
+     */
+    public void flush() {
+        synchronized (lock) {
+            sendPendingEvents();
+        }
+    }
+
+    private void sendPendingEvents() {
+        if (batch.isEmpty()) {
+            return;
         }
+        workerLoggingProtocol.sendOutputEvents(new BatchOutputEvent(batch));
+        batch = new ArrayList<OutputEvent>();
+    }
+
+    /**
+     * Sends any pending events. Should be called after this listener has been removed and before the connection to the build process is stopped.
+     */
+    @Override
+    public void stop() {
+        flush();
+        executor.stop();
     }
 }
@@ -16,10 +16,8 @@
 
 package org.gradle.process.internal.worker.child;
 
-import org.gradle.internal.logging.events.LogEvent;
-import org.gradle.internal.logging.events.StyledTextOutputEvent;
+import org.gradle.internal.logging.events.BatchOutputEvent;
 
 public interface WorkerLoggingProtocol {
-    void sendOutputEvent(LogEvent event);
-    void sendOutputEvent(StyledTextOutputEvent event);
+    void sendOutputEvents(BatchOutputEvent events);
 }
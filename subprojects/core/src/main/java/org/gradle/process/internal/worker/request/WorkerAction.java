@@ -27,6 +27,7 @@ import org.gradle.internal.operations.BuildOperationIdentifierRegistry;
 import org.gradle.internal.remote.ObjectConnection;
 import org.gradle.internal.remote.internal.hub.StreamFailureHandler;
 import org.gradle.process.internal.worker.WorkerProcessContext;
+import org.gradle.process.internal.worker.child.WorkerLogEventListener;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
@@ -37,6 +38,7 @@ public class WorkerAction implements Action<WorkerProcessContext>, Serializable,
     private final String workerImplementationName;
     private transient CountDownLatch completed;
     private transient ResponseProtocol responder;
+    private transient WorkerLogEventListener workerLogEventListener;
     private transient Throwable failure;
     private transient Class<?> workerImplementation;
     private transient Object implementation;
@@ -49,6 +51,7 @@ public class WorkerAction implements Action<WorkerProcessContext>, Serializable,
     @Override
     public void execute(WorkerProcessContext workerProcessContext) {
         completed = new CountDownLatch(1);
+        workerLogEventListener = workerProcessContext.getServiceRegistry().get(WorkerLogEventListener.class);
         try {
             if (instantiatorFactory == null) {
                 instantiatorFactory = new DefaultInstantiatorFactory(new AsmBackedClassGenerator(), new CrossBuildInMemoryCacheFactory(new DefaultListenerManager()));
@@ -89,6 +92,7 @@ public class WorkerAction implements Action<WorkerProcessContext>, Serializable,
     @Override
     public void run(String methodName, Class<?>[] paramTypes, Object[] args, Object operationIdentifier) {
         if (failure != null) {
+            workerLogEventListener.flush();
             responder.infrastructureFailed(failure);
             return;
         }
@@ -97,7 +101,7 @@ public class WorkerAction implements Action<WorkerProcessContext>, Serializable,
             BuildOperationIdentifierRegistry.setCurrentOperationIdentifier(operationIdentifier);
             Object result;
             try {
-                result = method.invoke(implementation, args);
+                result = invoke(method, args);
             } catch (InvocationTargetException e) {
                 Throwable failure = e.getCause();
                 if (failure instanceof NoClassDefFoundError) {
@@ -116,6 +120,15 @@ public class WorkerAction implements Action<WorkerProcessContext>, Serializable,
         }
     }
 
+    private Object invoke(Method method, Object[] args) throws InvocationTargetException, IllegalAccessException {
+        try {
+            return method.invoke(implementation, args);
+        } finally {
+            // Log output is sent in batches on its own channel, so send any pending output before the response
+            workerLogEventListener.flush();
+        }
+    }
+
     @Override
     public void handleStreamFailure(Throwable t) {
         responder.failed(t);
@@ -171,4 +171,89 @@ class DefaultNamedDomainObjectSetSpec extends Specification {
         }
     }
 
+    def "chained withType views select the elements of both types"() {
+        def bean = new DefaultNamedDomainObjectSetTest.Bean("a")
+        def otherBean = new OtherBean("b")
+        def markedBean = new MarkedBean("c")
+        def markedOtherBean = new MarkedOtherBean("d")
+
+        given:
+        container.addAll([bean, otherBean, markedBean, markedOtherBean])
+
+        expect:
+        container.withType(OtherBean).withType(Marked) as List == [markedOtherBean]
+        container.withType(OtherBean).withType(Marked).names == ["d"] as SortedSet
+        container.withType(OtherBean).withType(Marked).size() == 1
+        container.withType(OtherBean).withType(Marked).findByName("c") == null
+        container.withType(Marked).withType(OtherBean) as List == [markedOtherBean]
+        container.withType(OtherBean).withType(DefaultNamedDomainObjectSetTest.Bean) as List == [otherBean, markedOtherBean]
+        container.withType(OtherBean).withType(DefaultNamedDomainObjectSetTest.Bean).findByName("a") == null
+        container.withType(DefaultNamedDomainObjectSetTest.Bean).withType(OtherBean) as List == [otherBean, markedOtherBean]
+    }
+
+    def "chained withType view is live"() {
+        def markedOtherBean = new MarkedOtherBean("b")
+
+        given:
+        def view = container.withType(OtherBean).withType(Marked)
+
+        when:
+        container.add(new MarkedBean("a"))
+        container.add(markedOtherBean)
+        container.add(new OtherBean("c"))
+
+        then:
+        view as List == [markedOtherBean]
+        view.names == ["b"] as SortedSet
+
+        when:
+        container.removeByName("b")
+
+        then:
+        view.empty
+        view.findByName("b") == null
+    }
+
+    def "withType views select the elements of their type when many types are requested"() {
+        def otherBean = new OtherBean("a")
+        def markedBean = new MarkedBean("b")
+
+        given:
+        [Serializable, Cloneable, Runnable, Comparable, Closeable, Iterable, CharSequence, Appendable, Readable].each {
+            assert container.withType(it).empty
+        }
+        def otherBeans = container.withType(OtherBean)
+        def markedBeans = container.withType(Marked)
+
+        when:
+        container.add(otherBean)
+        container.add(markedBean)
+
+        then:
+        otherBeans as List == [otherBean]
+        otherBeans.names == ["a"] as SortedSet
+        markedBeans as List == [markedBean]
+        markedBeans.findByName("a") == null
+    }
+
+    interface Marked {
+    }
+
+    static class OtherBean extends DefaultNamedDomainObjectSetTest.Bean {
+        OtherBean(String name) {
+            super(name)
+        }
+    }
+
+    static class MarkedBean extends DefaultNamedDomainObjectSetTest.Bean implements Marked {
+        MarkedBean(String name) {
+            super(name)
+        }
+    }
+
+    static class MarkedOtherBean extends OtherBean implements Marked {
+        MarkedOtherBean(String name) {
+            super(name)
+        }
+    }
 }
@@ -17,6 +17,7 @@ package org.gradle.api.internal;
 
 import org.gradle.api.Action;
 import org.gradle.api.DomainObjectCollection;
+import org.gradle.api.NamedDomainObjectSet;
 import org.gradle.api.Namer;
 import org.gradle.api.Rule;
 import org.gradle.api.UnknownDomainObjectException;
@@ -36,6 +37,7 @@ import java.util.Iterator;
 import static org.gradle.util.TestUtil.call;
 import static org.gradle.util.TestUtil.toClosure;
 import static org.gradle.util.WrapUtil.toList;
+import static org.gradle.util.WrapUtil.toSortedSet;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
@@ -279,6 +281,45 @@ public class DefaultNamedDomainObjectSetTest {
 
     }
 
+    @Test
+    public void typeFilteredCollectionIsLive() {
+        class OtherBean extends Bean {
+            public OtherBean(String name) {
+                super(name);
+            }
+        }
+        OtherBean bean1 = new OtherBean("c");
+        Bean bean2 = new Bean("b");
+        OtherBean bean3 = new OtherBean("a");
+        OtherBean bean4 = new OtherBean("d");
+
+        container.add(bean1);
+
+        NamedDomainObjectSet<OtherBean> filteredCollection = container.withType(OtherBean.class);
+        assertThat(toList(filteredCollection), equalTo(toList(bean1)));
+
+        container.add(bean2);
+        container.add(bean3);
+        container.add(bean4);
+
+        assertThat(toList(filteredCollection), equalTo(toList(bean3, bean1, bean4)));
+        assertThat(filteredCollection.size(), equalTo(3));
+        assertThat(filteredCollection.getNames(), equalTo(toSortedSet("a", "c", "d")));
+        assertThat(filteredCollection.findByName("b"), nullValue());
+        assertThat(filteredCollection.contains(bean2), equalTo(false));
+        assertThat(toList(filteredCollection.withType(OtherBean.class)), equalTo(toList(bean3, bean1, bean4)));
+
+        assertThat(container.removeByName("c"), sameInstance(bean1));
+
+        assertThat(toList(filteredCollection), equalTo(toList(bean3, bean4)));
+        assertThat(filteredCollection.findByName("c"), nullValue());
+
+        container.clear();
+
+        assertTrue(filteredCollection.isEmpty());
+        assertTrue(filteredCollection.getAsMap().isEmpty());
+    }
+
     @Test
     public void filteredCollectionExecutesActionWhenMatchingObjectAdded() {
         final Action<Bean> action = context.mock(Action.class);
@@ -17,6 +17,7 @@ package org.gradle.api.internal.collections
 
 import org.gradle.api.Action
 import org.gradle.api.specs.Spec
+import org.gradle.internal.Actions
 import spock.lang.Specification
 
 class BroadcastingCollectionEventRegisterSpec extends Specification {
@@ -57,6 +58,24 @@ class BroadcastingCollectionEventRegisterSpec extends Specification {
         removed == [2, 12]
     }
 
+    def "actions do nothing until an action is registered"() {
+        expect:
+        r.addAction.is(Actions.doNothing())
+        r.removeAction.is(Actions.doNothing())
+
+        when:
+        r.addAction.execute 1
+        r.registerAddAction a({ added << it })
+        r.addAction.execute 2
+        r.removeAction.execute 3
+
+        then:
+        added == [2]
+        removed == []
+        !r.addAction.is(Actions.doNothing())
+        r.removeAction.is(Actions.doNothing())
+    }
+
     def "listener added on filtered adds to root"() {
         given:
         r.registerAddAction a({ added << "root" })
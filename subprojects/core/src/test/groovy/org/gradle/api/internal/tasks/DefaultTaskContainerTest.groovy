@@ -348,6 +348,151 @@ public class DefaultTaskContainerTest extends Specification {
         container.names == ['task1', 'task2'] as SortedSet
     }
 
+    void "lazily registered task is created when it is looked up by name"() {
+        given:
+        def action = Mock(Action)
+        container.createLater("task", DefaultTask, action)
+
+        when:
+        def created = container.getByName("task")
+
+        then:
+        1 * taskFactory.create("task", DefaultTask) >> { task(it[0], it[1]) }
+        1 * action.execute({ it.name == "task" })
+        created instanceof DefaultTask
+        container.createdTaskCount == 1
+    }
+
+    void "lazily registered task is not created until it is required"() {
+        given:
+        def action = Mock(Action)
+
+        when:
+        container.createLater("task", DefaultTask, action)
+
+        then:
+        0 * taskFactory._
+        0 * action._
+        container.names == ['task'] as SortedSet
+        container.createdTaskCount == 0
+    }
+
+    void "lazily registered task is created when a collection of its type is queried"() {
+        given:
+        container.createLater("task", CustomTask, Mock(Action))
+        container.createLater("other", DefaultTask, Mock(Action))
+
+        when:
+        def tasks = container.withType(CustomTask) as List
+
+        then:
+        1 * taskFactory.create("task", CustomTask) >> { task(it[0], it[1]) }
+        0 * taskFactory._
+        tasks.size() == 1
+        container.createdTaskCount == 1
+    }
+
+    void "lazily registered task is created once when an action is executed for all tasks"() {
+        given:
+        def action = Mock(Action)
+        container.createLater("task", DefaultTask, Mock(Action))
+        1 * taskFactory.create("task", DefaultTask) >> { task(it[0], it[1]) }
+
+        when:
+        container.all(action)
+
+        then:
+        1 * action.execute({ it.name == "task" })
+        0 * action._
+    }
+
+    void "cannot create task with the name of a lazily registered task"() {
+        given:
+        def action = Mock(Action)
+        container.createLater("task", DefaultTask, action)
+
+        when:
+        addTask("task")
+
+        then:
+        def ex = thrown(InvalidUserDataException)
+        ex.message == "Cannot add Mock for type 'DefaultTask' named '[task1]' as a task with that name already exists."
+        0 * action._
+    }
+
+    void "cannot lazily register task with the name of an existing task"() {
+        given:
+        project.absoluteProjectPath("task") >> ":task"
+        addTask("task")
+
+        when:
+        container.createLater("task", DefaultTask, Mock(Action))
+
+        then:
+        def ex = thrown(InvalidUserDataException)
+        ex.message == "Cannot add task ':task' as a task with that name already exists."
+    }
+
+    void "cannot lazily register task twice"() {
+        given:
+        project.absoluteProjectPath("task") >> ":task"
+        container.createLater("task", DefaultTask, Mock(Action))
+
+        when:
+        container.createLater("task", DefaultTask, Mock(Action))
+
+        then:
+        def ex = thrown(InvalidUserDataException)
+        ex.message == "Cannot add task ':task' as a task with that name already exists."
+    }
+
+    void "can replace lazily registered task"() {
+        given:
+        def action = Mock(Action)
+        container.createLater("task", DefaultTask, action)
+        def task = task("task")
+        taskFactory.create("task", DefaultTask) >> task
+
+        when:
+        container.replace("task")
+
+        then:
+        container.getByName("task") == task
+        0 * action._
+    }
+
+    void "configureWhenCreated configures lazily registered task when it is created"() {
+        given:
+        def action = Mock(Action)
+        container.createLater("task", DefaultTask, Mock(Action))
+        taskFactory.create("task", DefaultTask) >> { task(it[0], it[1]) }
+
+        when:
+        container.configureWhenCreated("task", action)
+
+        then:
+        0 * action._
+        container.createdTaskCount == 0
+
+        when:
+        container.getByName("task")
+
+        then:
+        1 * action.execute({ it.name == "task" })
+    }
+
+    void "configureWhenCreated configures existing task immediately"() {
+        given:
+        def action = Mock(Action)
+        def task = addTask("task")
+
+        when:
+        container.configureWhenCreated("task", action)
+
+        then:
+        1 * action.execute(task)
+    }
+
     void "maybeCreate creates new task"() {
         given:
         def task = task("task")
@@ -179,7 +179,7 @@ class LifecycleProjectEvaluatorTest extends Specification {
         evaluator.evaluate(project, state)
 
         then:
-        buildOperationExecutor.operations.size() == 1
+        buildOperationExecutor.operations.size() == 2
         BuildOperationDescriptor descriptor = buildOperationExecutor.operations[0]
         ConfigureProjectBuildOperationType.Details details = descriptor.details
 
@@ -191,4 +191,16 @@ class LifecycleProjectEvaluatorTest extends Specification {
         details.projectPath == Path.path(':project1').path
     }
 
+    def "notifies afterEvaluate listeners in a child operation"() {
+        when:
+        evaluator.evaluate(project, state)
+
+        then:
+        1 * listener.afterEvaluate(project, state)
+
+        and:
+        buildOperationExecutor.operations.size() == 2
+        buildOperationExecutor.operations[1].displayName == 'Notify afterEvaluate listeners of :project1'
+    }
+
 }
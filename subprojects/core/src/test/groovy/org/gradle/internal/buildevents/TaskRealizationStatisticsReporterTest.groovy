@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.buildevents
+
+import org.gradle.BuildResult
+import org.gradle.api.internal.GradleInternal
+import org.gradle.api.internal.project.ProjectInternal
+import org.gradle.api.internal.project.ProjectRegistry
+import org.gradle.api.internal.tasks.TaskContainerInternal
+import org.gradle.api.logging.Logger
+import spock.lang.Specification
+
+class TaskRealizationStatisticsReporterTest extends Specification {
+    def projectRegistry = Mock(ProjectRegistry)
+    def logger = Mock(Logger)
+    def gradle = Stub(GradleInternal)
+    def reporter = new TaskRealizationStatisticsReporter(projectRegistry, logger)
+
+    def "reports number of created and registered tasks of all projects"() {
+        def project1 = project(["a", "b", "c"] as SortedSet, 1)
+        def project2 = project(["d", "e"] as SortedSet, 2)
+
+        when:
+        reporter.buildFinished(new BuildResult(gradle, null))
+
+        then:
+        _ * logger.isInfoEnabled() >> true
+        1 * projectRegistry.getAllProjects() >> ([project1, project2] as Set)
+        1 * logger.info("Created {} of {} registered tasks for {}.", 3, 5, gradle)
+    }
+
+    def "does not report when there are no tasks"() {
+        when:
+        reporter.buildFinished(new BuildResult(gradle, null))
+
+        then:
+        _ * logger.isInfoEnabled() >> true
+        1 * projectRegistry.getAllProjects() >> ([] as Set)
+        0 * logger.info(_, _, _, _)
+    }
+
+    def "does not count tasks when info logging is disabled"() {
+        when:
+        reporter.buildFinished(new BuildResult(gradle, null))
+
+        then:
+        _ * logger.isInfoEnabled() >> false
+        0 * projectRegistry._
+    }
+
+    private ProjectInternal project(SortedSet<String> taskNames, int createdTasks) {
+        def tasks = Stub(TaskContainerInternal) {
+            getNames() >> taskNames
+            getCreatedTaskCount() >> createdTasks
+        }
+        return Stub(ProjectInternal) {
+            getTasks() >> tasks
+        }
+    }
+}
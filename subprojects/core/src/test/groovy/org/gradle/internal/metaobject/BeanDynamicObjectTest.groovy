@@ -529,6 +529,41 @@ class BeanDynamicObjectTest extends Specification {
         !dynamicObject.hasMethod("methodWithValue", [Integer] as Object[])
     }
 
+    def "can invoke method added by category"() {
+        def bean = new Bean()
+        def dynamicObject = new BeanDynamicObject(bean)
+
+        expect:
+        !dynamicObject.hasMethod("categoryMethod", [12] as Object[])
+        use(BeanCategory) {
+            dynamicObject.hasMethod("categoryMethod", [12] as Object[]) && dynamicObject.invokeMethod("categoryMethod", [12] as Object[]) == "category 12"
+        }
+        !dynamicObject.hasMethod("categoryMethod", [12] as Object[])
+    }
+
+    def "can invoke method added to meta-class after method was looked up"() {
+        expect:
+        !new BeanDynamicObject(new BeanWithAddedMethods()).hasMethod("added", [12] as Object[])
+
+        when:
+        BeanWithAddedMethods.metaClass.added = { int i -> "added $i" }
+        def dynamicObject = new BeanDynamicObject(new BeanWithAddedMethods())
+
+        then:
+        dynamicObject.invokeMethod("added", [12] as Object[]) == "added 12"
+        !dynamicObject.hasMethod("other", [12] as Object[])
+
+        when:
+        BeanWithAddedMethods.metaClass.other = { int i -> "other $i" }
+
+        then:
+        dynamicObject.hasMethod("other", [12] as Object[])
+        dynamicObject.invokeMethod("other", [12] as Object[]) == "other 12"
+
+        cleanup:
+        GroovySystem.metaClassRegistry.removeMetaClass(BeanWithAddedMethods)
+    }
+
     def "coerces parameters of method of groovy object"() {
         def bean = new EnumBean()
         def dynamicObject = new BeanDynamicObject(bean, EnumBean, true, false, new SomeEnumConverter(), new SomeEnumConverter())
@@ -800,6 +835,15 @@ class BeanDynamicObjectTest extends Specification {
         }
     }
 
+    static class BeanCategory {
+        static String categoryMethod(Bean bean, int l) {
+            return "category $l"
+        }
+    }
+
+    static class BeanWithAddedMethods {
+    }
+
     static class EnumBean {
         SomeEnum prop
 
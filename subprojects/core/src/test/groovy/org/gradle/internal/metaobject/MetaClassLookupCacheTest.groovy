@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.metaobject
+
+import spock.lang.Specification
+
+class MetaClassLookupCacheTest extends Specification {
+    def created = []
+    def cache = new MetaClassLookupCache<String>() {
+        @Override
+        protected String create(MetaClass metaClass, String name, Class<?>[] argumentTypes) {
+            created << name
+            return name == "missing" ? null : "$metaClass.theClass.simpleName.$name(${argumentTypes.collect { it?.simpleName }.join(', ')})".toString()
+        }
+    }
+
+    def "caches member by name and argument types"() {
+        def metaClass = new MetaClassImpl(String)
+
+        expect:
+        cache.get(metaClass, "a", [Integer] as Class[]) == "String.a(Integer)"
+        cache.get(metaClass, "a", [Integer] as Class[]) == "String.a(Integer)"
+        cache.get(metaClass, "a", [String] as Class[]) == "String.a(String)"
+        cache.get(metaClass, "a", [] as Class[]) == "String.a()"
+        cache.get(metaClass, "b", [Integer] as Class[]) == "String.b(Integer)"
+        cache.get(metaClass, "a", [String] as Class[]) == "String.a(String)"
+        created == ["a", "a", "a", "b"]
+    }
+
+    def "caches missing member"() {
+        def metaClass = new MetaClassImpl(String)
+
+        expect:
+        cache.get(metaClass, "missing", [Integer] as Class[]) == null
+        cache.get(metaClass, "missing", [Integer] as Class[]) == null
+        created == ["missing"]
+    }
+
+    def "caches member for null argument separately"() {
+        def metaClass = new MetaClassImpl(String)
+
+        expect:
+        cache.get(metaClass, "a", [null] as Class[]) == "String.a(null)"
+        cache.get(metaClass, "a", [Integer] as Class[]) == "String.a(Integer)"
+        cache.get(metaClass, "a", [null] as Class[]) == "String.a(null)"
+        cache.get(metaClass, "a", [null, null] as Class[]) == "String.a(null, null)"
+        created == ["a", "a", "a"]
+    }
+
+    def "caches members separately for each meta-class"() {
+        def stringMetaClass = new MetaClassImpl(String)
+        def integerMetaClass = new MetaClassImpl(Integer)
+
+        expect:
+        cache.get(stringMetaClass, "a", [Integer] as Class[]) == "String.a(Integer)"
+        cache.get(integerMetaClass, "a", [Integer] as Class[]) == "Integer.a(Integer)"
+        cache.get(stringMetaClass, "a", [Integer] as Class[]) == "String.a(Integer)"
+        created == ["a", "a"]
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.profile
+
+import org.gradle.StartParameter
+import org.gradle.api.internal.plugins.ApplyPluginBuildOperationType
+import org.gradle.configuration.ApplyScriptPluginBuildOperationType
+import org.gradle.internal.event.DefaultListenerManager
+import org.gradle.internal.progress.BuildOperationDescriptor
+import org.gradle.internal.progress.BuildOperationListener
+import org.gradle.internal.progress.OperationFinishEvent
+import org.gradle.internal.progress.OperationStartEvent
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+
+class BuildOperationProfileTest extends Specification {
+    @Rule
+    TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider()
+
+    def listenerManager = new DefaultListenerManager()
+    def broadcast = listenerManager.getBroadcaster(BuildOperationListener)
+    def startParameter = new StartParameter()
+
+    def "does not listen to operations when not enabled"() {
+        when:
+        def profile = new BuildOperationProfile(startParameter, listenerManager)
+        run(op(1, null, "Configure build"), 0, 10)
+        profile.stop()
+
+        then:
+        tmpDir.testDirectory.listFiles().length == 0
+    }
+
+    def "writes self-time of each stack and of each operation name"() {
+        def basePath = tmpDir.file("profile").absolutePath
+        startParameter.systemPropertiesArgs[BuildOperationProfile.SYSPROP] = basePath
+        def profile = new BuildOperationProfile(startParameter, listenerManager)
+
+        when:
+        def build = op(1, null, "Configure build")
+        def projectA = op(2, 1, "Configure project :a")
+        def pluginA = op(3, 2, "Apply plugin java to project ':a'", pluginDetails("java"))
+        def projectB = op(4, 1, "Configure project :b")
+        def scriptB = op(5, 4, "Apply script b.gradle to project ':b'", scriptDetails("/b.gradle"))
+        def pluginB = op(6, 5, "Apply plugin java to project ':b'", pluginDetails("java"))
+        start(build, 0)
+        start(projectA, 1)
+        run(pluginA, 2, 12)
+        finish(projectA, 1, 15)
+        start(projectB, 15)
+        start(scriptB, 16)
+        run(pluginB, 17, 22)
+        finish(scriptB, 16, 30)
+        finish(projectB, 15, 31)
+        finish(build, 0, 40)
+        profile.stop()
+
+        then:
+        tmpDir.file("profile-stacks.txt").readLines() == [
+            "Configure build 10",
+            "Configure build;Configure project :a 4",
+            "Configure build;Configure project :a;Apply plugin java 10",
+            "Configure build;Configure project :b 2",
+            "Configure build;Configure project :b;Apply script /b.gradle 9",
+            "Configure build;Configure project :b;Apply script /b.gradle;Apply plugin java 5",
+        ]
+        tmpDir.file("profile-summary.txt").readLines() == [
+            "15ms Apply plugin java",
+            "10ms Configure build",
+            "9ms Apply script /b.gradle",
+            "4ms Configure project :a",
+            "2ms Configure project :b",
+        ]
+    }
+
+    def "does not report negative self-time for operations with overlapping children"() {
+        def basePath = tmpDir.file("profile").absolutePath
+        startParameter.systemPropertiesArgs[BuildOperationProfile.SYSPROP] = basePath
+        def profile = new BuildOperationProfile(startParameter, listenerManager)
+
+        when:
+        def parent = op(1, null, "Run tasks")
+        start(parent, 0)
+        run(op(2, 1, "Task :a"), 1, 10)
+        run(op(3, 1, "Task :b"), 1, 10)
+        finish(parent, 0, 10)
+        profile.stop()
+
+        then:
+        tmpDir.file("profile-stacks.txt").readLines() == [
+            "Run tasks 0",
+            "Run tasks;Task :a 9",
+            "Run tasks;Task :b 9",
+        ]
+    }
+
+    def "ignores operations that started before it was enabled"() {
+        def basePath = tmpDir.file("profile").absolutePath
+        startParameter.systemPropertiesArgs[BuildOperationProfile.SYSPROP] = basePath
+
+        when:
+        def parent = op(1, null, "Run build")
+        start(parent, 0)
+        def profile = new BuildOperationProfile(startParameter, listenerManager)
+        run(op(2, 1, "Configure build"), 1, 5)
+        finish(parent, 0, 10)
+        profile.stop()
+
+        then:
+        tmpDir.file("profile-stacks.txt").readLines() == ["Configure build 4"]
+    }
+
+    private static BuildOperationDescriptor op(long id, Long parentId, String name, Object details = null) {
+        BuildOperationDescriptor.displayName(name).details(details).build(id, parentId)
+    }
+
+    private ApplyPluginBuildOperationType.Details pluginDetails(String id) {
+        Stub(ApplyPluginBuildOperationType.Details) {
+            getPluginId() >> id
+        }
+    }
+
+    private ApplyScriptPluginBuildOperationType.Details scriptDetails(String file) {
+        Stub(ApplyScriptPluginBuildOperationType.Details) {
+            getFile() >> file
+        }
+    }
+
+    private void start(BuildOperationDescriptor descriptor, long startTime) {
+        broadcast.started(descriptor, new OperationStartEvent(startTime))
+    }
+
+    private void finish(BuildOperationDescriptor descriptor, long startTime, long endTime) {
+        broadcast.finished(descriptor, new OperationFinishEvent(startTime, endTime, null, null))
+    }
+
+    private void run(BuildOperationDescriptor descriptor, long startTime, long endTime) {
+        start(descriptor, startTime)
+        finish(descriptor, startTime, endTime)
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.process.internal.worker.child
+
+import org.gradle.api.logging.LogLevel
+import org.gradle.internal.concurrent.ManagedScheduledExecutor
+import org.gradle.internal.logging.events.BatchOutputEvent
+import org.gradle.internal.logging.events.LogEvent
+import org.gradle.internal.logging.events.LogLevelChangeEvent
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class WorkerLogEventListenerTest extends Specification {
+    def protocol = Mock(WorkerLoggingProtocol)
+    def executor = Mock(ManagedScheduledExecutor)
+    def listener = new WorkerLogEventListener(protocol, executor)
+
+    def "sends pending events once the first event of the batch has waited long enough"() {
+        def event1 = event("1")
+        def event2 = event("2")
+        Runnable flush = null
+
+        when:
+        listener.onOutput(event1)
+        listener.onOutput(event2)
+
+        then:
+        1 * executor.schedule(_, WorkerLogEventListener.MAX_BATCH_DELAY_MS, TimeUnit.MILLISECONDS) >> { flush = it[0]; null }
+        0 * protocol._
+
+        when:
+        flush.run()
+
+        then:
+        1 * protocol.sendOutputEvents({ it.events == [event1, event2] })
+        0 * protocol._
+    }
+
+    def "sends a full batch immediately"() {
+        def events = (1..WorkerLogEventListener.MAX_BATCH_SIZE + 1).collect { event(it.toString()) }
+
+        when:
+        events.each { listener.onOutput(it) }
+
+        then:
+        1 * protocol.sendOutputEvents({ it.events == events.subList(0, WorkerLogEventListener.MAX_BATCH_SIZE) })
+        0 * protocol._
+    }
+
+    def "sends pending events and stops executor on stop"() {
+        def event = event("1")
+
+        given:
+        listener.onOutput(event)
+
+        when:
+        listener.stop()
+
+        then:
+        1 * protocol.sendOutputEvents({ it.events == [event] })
+        1 * executor.stop()
+        0 * protocol._
+    }
+
+    def "sends pending events on flush"() {
+        def event = event("1")
+
+        given:
+        listener.onOutput(event)
+
+        when:
+        listener.flush()
+
+        then:
+        1 * protocol.sendOutputEvents({ it.events == [event] })
+        0 * protocol._
+
+        when:
+        listener.flush()
+
+        then:
+        0 * protocol._
+    }
+
+    def "does not send anything when there are no pending events"() {
+        when:
+        listener.onOutput(new LogLevelChangeEvent(LogLevel.DEBUG))
+        listener.stop()
+
+        then:
+        0 * protocol._
+        0 * executor.schedule(_, _, _)
+    }
+
+    def event(String message) {
+        return new LogEvent(0, "category", LogLevel.INFO, message, null)
+    }
+}
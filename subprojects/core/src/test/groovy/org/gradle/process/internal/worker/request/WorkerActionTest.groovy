@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.process.internal.worker.request
+
+import org.gradle.api.logging.LogLevel
+import org.gradle.internal.concurrent.ManagedScheduledExecutor
+import org.gradle.internal.logging.events.LogEvent
+import org.gradle.internal.remote.ObjectConnection
+import org.gradle.internal.service.DefaultServiceRegistry
+import org.gradle.process.internal.worker.WorkerProcessContext
+import org.gradle.process.internal.worker.child.WorkerLogEventListener
+import org.gradle.process.internal.worker.child.WorkerLoggingProtocol
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+class WorkerActionTest extends Specification {
+    def loggingProtocol = Mock(WorkerLoggingProtocol)
+    def listener = new WorkerLogEventListener(loggingProtocol, Stub(ManagedScheduledExecutor))
+    def responder = Mock(ResponseProtocol)
+    def connection = Mock(ObjectConnection)
+    def context = Stub(WorkerProcessContext) {
+        getServerConnection() >> connection
+        getServiceRegistry() >> new DefaultServiceRegistry().add(WorkerLogEventListener, listener)
+    }
+
+    def "sends log output of the work before its result"() {
+        def action = new WorkerAction(LoggingWorker)
+
+        given:
+        connection.addOutgoing(ResponseProtocol) >> responder
+        connection.connect() >> { action.runThenStop("log", [String] as Class[], ["message"] as Object[], null) }
+
+        when:
+        action.execute(context)
+
+        then:
+        1 * loggingProtocol.sendOutputEvents({ it.events*.message == ["message"] })
+
+        then:
+        1 * responder.completed("done")
+        0 * responder._
+    }
+
+    def "sends log output of the work before its failure"() {
+        def action = new WorkerAction(LoggingWorker)
+
+        given:
+        connection.addOutgoing(ResponseProtocol) >> responder
+        connection.connect() >> { action.runThenStop("fail", [String] as Class[], ["message"] as Object[], null) }
+
+        when:
+        action.execute(context)
+
+        then:
+        1 * loggingProtocol.sendOutputEvents({ it.events*.message == ["message"] })
+
+        then:
+        1 * responder.failed({ it instanceof RuntimeException && it.message == "broken" })
+        0 * responder._
+    }
+
+    static class LoggingWorker {
+        private final WorkerLogEventListener listener
+
+        @Inject
+        LoggingWorker(WorkerLogEventListener listener) {
+            this.listener = listener
+        }
+
+        String log(String message) {
+            listener.onOutput(new LogEvent(0, "category", LogLevel.INFO, message, null))
+            return "done"
+        }
+
+        String fail(String message) {
+            log(message)
+            throw new RuntimeException("broken")
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.resolveengine.excludes;
+
+import com.google.common.collect.ImmutableList;
+import org.gradle.api.artifacts.ModuleIdentifier;
+import org.gradle.api.internal.artifacts.DefaultImmutableModuleIdentifierFactory;
+import org.gradle.api.internal.artifacts.ImmutableModuleIdentifierFactory;
+import org.gradle.internal.component.external.descriptor.DefaultExclude;
+import org.gradle.internal.component.model.ExcludeMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Evaluates exclude rules over a synthetic, layered dependency graph, the way the graph builder does: the exclusions of a path are
+ * intersected with the excludes declared on each edge, the exclusions of the incoming paths of a node are unioned, and every edge
+ * target is checked against the resulting exclusion.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ModuleExclusionsBenchmark {
+
+    private static final int LAYERS = 10;
+
+    @Param({"100", "1000", "5000"})
+    int excludeCount;
+
+    @Param({"200"})
+    int modulesPerLayer;
+
+    private final ImmutableModuleIdentifierFactory moduleIdentifierFactory = new DefaultImmutableModuleIdentifierFactory();
+    private ModuleIdentifier[][] modules;
+    private List<ImmutableList<ExcludeMetadata>> edgeExcludes;
+    private int[][] edgeTargets;
+
+    @Setup
+    public void createGraph() {
+        Random random = new Random(42);
+        modules = new ModuleIdentifier[LAYERS][modulesPerLayer];
+        for (int layer = 0; layer < LAYERS; layer++) {
+            for (int i = 0; i < modulesPerLayer; i++) {
+                modules[layer][i] = moduleIdentifierFactory.module("org.group" + random.nextInt(50), "module-" + layer + "-" + i);
+            }
+        }
+
+        // Spread the excludes over the edges leaving each module, using the usual mix of module, group and module name excludes
+        edgeExcludes = new ArrayList<ImmutableList<ExcludeMetadata>>(modulesPerLayer);
+        int excludesPerEdge = Math.max(1, excludeCount / modulesPerLayer);
+        for (int i = 0; i < modulesPerLayer; i++) {
+            ImmutableList.Builder<ExcludeMetadata> excludes = ImmutableList.builder();
+            for (int j = 0; j < excludesPerEdge; j++) {
+                ModuleIdentifier excluded = modules[random.nextInt(LAYERS)][random.nextInt(modulesPerLayer)];
+                switch (random.nextInt(10)) {
+                    case 0:
+                        excludes.add(new DefaultExclude(moduleIdentifierFactory.module(excluded.getGroup(), "*")));
+                        break;
+                    case 1:
+                        excludes.add(new DefaultExclude(moduleIdentifierFactory.module("*", excluded.getName())));
+                        break;
+                    default:
+                        excludes.add(new DefaultExclude(excluded));
+                }
+            }
+            edgeExcludes.add(excludes.build());
+        }
+
+        edgeTargets = new int[modulesPerLayer][3];
+        for (int i = 0; i < modulesPerLayer; i++) {
+            for (int j = 0; j < edgeTargets[i].length; j++) {
+                edgeTargets[i][j] = random.nextInt(modulesPerLayer);
+            }
+        }
+    }
+
+    @Benchmark
+    public void resolveGraph(Blackhole bh) {
+        ModuleExclusions moduleExclusions = new ModuleExclusions(moduleIdentifierFactory);
+        ModuleExclusion[] current = new ModuleExclusion[modulesPerLayer];
+        for (int i = 0; i < modulesPerLayer; i++) {
+            current[i] = ModuleExclusions.excludeNone();
+        }
+        for (int layer = 0; layer < LAYERS - 1; layer++) {
+            ModuleExclusion[] next = new ModuleExclusion[modulesPerLayer];
+            for (int i = 0; i < modulesPerLayer; i++) {
+                ModuleExclusion pathExclusion = moduleExclusions.intersect(current[i], moduleExclusions.excludeAny(edgeExcludes.get(i)));
+                for (int target : edgeTargets[i]) {
+                    if (pathExclusion.excludeModule(modules[layer + 1][target])) {
+                        continue;
+                    }
+                    next[target] = next[target] == null ? pathExclusion : moduleExclusions.union(next[target], pathExclusion);
+                }
+            }
+            for (int i = 0; i < modulesPerLayer; i++) {
+                current[i] = next[i] == null ? ModuleExclusions.excludeNone() : next[i];
+            }
+        }
+        bh.consume(current);
+    }
+}
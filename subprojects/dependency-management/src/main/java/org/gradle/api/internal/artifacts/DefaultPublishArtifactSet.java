@@ -35,8 +35,9 @@ import java.util.Set;
 
 public class DefaultPublishArtifactSet extends DelegatingDomainObjectSet<PublishArtifact> implements PublishArtifactSet {
     private final TaskDependencyInternal builtBy = new ArtifactsTaskDependency();
-    private final FileCollection files;
+    private final FileCollectionFactory fileCollectionFactory;
     private final Describable displayName;
+    private FileCollection files;
 
     public DefaultPublishArtifactSet(String displayName, DomainObjectSet<PublishArtifact> backingSet, FileCollectionFactory fileCollectionFactory) {
         this(Describables.of(displayName), backingSet, fileCollectionFactory);
@@ -45,7 +46,7 @@ public class DefaultPublishArtifactSet extends DelegatingDomainObjectSet<Publish
     public DefaultPublishArtifactSet(Describable displayName, DomainObjectSet<PublishArtifact> backingSet, FileCollectionFactory fileCollectionFactory) {
         super(backingSet);
         this.displayName = displayName;
-        this.files = fileCollectionFactory.create(builtBy, new ArtifactsFileCollection());
+        this.fileCollectionFactory = fileCollectionFactory;
     }
 
     @Override
@@ -54,6 +55,9 @@ public class DefaultPublishArtifactSet extends DelegatingDomainObjectSet<Publish
     }
 
     public FileCollection getFiles() {
+        if (files == null) {
+            files = fileCollectionFactory.create(builtBy, new ArtifactsFileCollection());
+        }
         return files;
     }
 
@@ -144,7 +144,7 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
     private ResolutionStrategyInternal resolutionStrategy;
     private final FileCollectionFactory fileCollectionFactory;
 
-    private final Set<MutationValidator> childMutationValidators = Sets.newHashSet();
+    private Set<MutationValidator> childMutationValidators;
     private final MutationValidator parentMutationValidator = new MutationValidator() {
         @Override
         public void validateMutation(MutationType type) {
@@ -165,7 +165,7 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
     private boolean transitive = true;
     private Set<Configuration> extendsFrom = new LinkedHashSet<Configuration>();
     private String description;
-    private Set<ExcludeRule> excludeRules = new LinkedHashSet<ExcludeRule>();
+    private Set<ExcludeRule> excludeRules;
 
     private final Object observationLock = new Object();
     private InternalState observedState = UNRESOLVED;
@@ -213,7 +213,6 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
         this.projectAccessListener = projectAccessListener;
         this.projectFinder = projectFinder;
         this.fileCollectionFactory = fileCollectionFactory;
-        this.dependencyResolutionListeners = listenerManager.createAnonymousBroadcaster(DependencyResolutionListener.class);
         this.buildOperationExecutor = buildOperationExecutor;
         this.instantiator = instantiator;
         this.artifactNotationParser = artifactNotationParser;
@@ -225,10 +224,11 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
 
         displayName = Describables.memoize(new ConfigurationDescription(identityPath));
 
+        Action<Void> validateDependencyMutation = validateMutationType(this, MutationType.DEPENDENCIES);
         DefaultDomainObjectSet<Dependency> ownDependencies = new DefaultDomainObjectSet<Dependency>(Dependency.class);
-        ownDependencies.beforeChange(validateMutationType(this, MutationType.DEPENDENCIES));
+        ownDependencies.beforeChange(validateDependencyMutation);
         DefaultDomainObjectSet<DependencyConstraint> ownDependencyConstraints = new DefaultDomainObjectSet<DependencyConstraint>(DependencyConstraint.class);
-        ownDependencyConstraints.beforeChange(validateMutationType(this, MutationType.DEPENDENCIES));
+        ownDependencyConstraints.beforeChange(validateDependencyMutation);
 
         this.dependencies = new DefaultDependencySet(Describables.of(displayName, "dependencies"), this, ownDependencies);
         this.dependencyConstraints = new DefaultDependencyConstraintSet(Describables.of(displayName, "dependency constraints"), ownDependencyConstraints);
@@ -499,9 +499,9 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
                 markParentsObserved(requestedState);
                 markReferencedProjectConfigurationsObserved(requestedState);
 
-                dependencyResolutionListeners.getSource().afterResolve(incoming);
+                getDependencyResolutionListeners().getSource().afterResolve(incoming);
                 // Discard listeners
-                dependencyResolutionListeners.removeAll();
+                getDependencyResolutionListeners().removeAll();
                 context.setResult(new ResolveConfigurationDependenciesBuildOperationType.Result() {
                     @Override
                     public ResolvedComponentResult getRootComponent() {
@@ -521,7 +521,7 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
     }
 
     private void performPreResolveActions(ResolvableDependencies incoming) {
-        DependencyResolutionListener dependencyResolutionListener = dependencyResolutionListeners.getSource();
+        DependencyResolutionListener dependencyResolutionListener = getDependencyResolutionListeners().getSource();
         insideBeforeResolve = true;
         try {
             dependencyResolutionListener.beforeResolve(incoming);
@@ -592,6 +592,9 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
     }
 
     public Set<ExcludeRule> getExcludeRules() {
+        if (excludeRules == null) {
+            return Collections.emptySet();
+        }
         return Collections.unmodifiableSet(excludeRules);
     }
 
@@ -602,10 +605,17 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
 
     public DefaultConfiguration exclude(Map<String, String> excludeRuleArgs) {
         validateMutation(MutationType.DEPENDENCIES);
-        excludeRules.add(ExcludeRuleNotationConverter.parser().parseNotation(excludeRuleArgs));
+        getMutableExcludeRules().add(ExcludeRuleNotationConverter.parser().parseNotation(excludeRuleArgs));
         return this;
     }
 
+    private Set<ExcludeRule> getMutableExcludeRules() {
+        if (excludeRules == null) {
+            excludeRules = new LinkedHashSet<ExcludeRule>();
+        }
+        return excludeRules;
+    }
+
     public String getUploadTaskName() {
         return Configurations.uploadTaskName(getName());
     }
@@ -677,7 +687,7 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
         copiedConfiguration.description = description;
 
         copiedConfiguration.defaultDependencyActions = defaultDependencyActions;
-        copiedConfiguration.dependencyResolutionListeners = dependencyResolutionListeners;
+        copiedConfiguration.dependencyResolutionListeners = getDependencyResolutionListeners();
 
         copiedConfiguration.canBeConsumed = canBeConsumed;
         copiedConfiguration.canBeResolved = canBeResolved;
@@ -702,7 +712,7 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
 
         for (Configuration excludeRuleSource : excludeRuleSources) {
             for (ExcludeRule excludeRule : excludeRuleSource.getExcludeRules()) {
-                copiedConfiguration.excludeRules.add(new DefaultExcludeRule(excludeRule.getGroup(), excludeRule.getModule()));
+                copiedConfiguration.getMutableExcludeRules().add(new DefaultExcludeRule(excludeRule.getGroup(), excludeRule.getModule()));
             }
         }
 
@@ -734,6 +744,14 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
         return resolutionStrategy;
     }
 
+    private ListenerBroadcast<DependencyResolutionListener> getDependencyResolutionListeners() {
+        // Most configurations are never resolved and have no resolution hooks, so defer creating the broadcast
+        if (dependencyResolutionListeners == null) {
+            dependencyResolutionListeners = listenerManager.createAnonymousBroadcaster(DependencyResolutionListener.class);
+        }
+        return dependencyResolutionListeners;
+    }
+
     public ComponentResolveMetadata toRootComponentMetaData() {
         return rootComponentMetadataBuilder.toRootComponentMetaData();
     }
@@ -761,12 +779,17 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
 
     @Override
     public void addMutationValidator(MutationValidator validator) {
+        if (childMutationValidators == null) {
+            childMutationValidators = Sets.newHashSet();
+        }
         childMutationValidators.add(validator);
     }
 
     @Override
     public void removeMutationValidator(MutationValidator validator) {
-        childMutationValidators.remove(validator);
+        if (childMutationValidators != null) {
+            childMutationValidators.remove(validator);
+        }
     }
 
     private void validateParentMutation(MutationType type) {
@@ -838,6 +861,9 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
 
     private void notifyChildren(MutationType type) {
         // Notify child configurations
+        if (childMutationValidators == null) {
+            return;
+        }
         for (MutationValidator validator : childMutationValidators) {
             validator.validateMutation(type);
         }
@@ -1073,19 +1099,19 @@ public class DefaultConfiguration extends AbstractFileCollection implements Conf
         }
 
         public void beforeResolve(Action<? super ResolvableDependencies> action) {
-            dependencyResolutionListeners.add("beforeResolve", action);
+            getDependencyResolutionListeners().add("beforeResolve", action);
         }
 
         public void beforeResolve(Closure action) {
-            dependencyResolutionListeners.add(new ClosureBackedMethodInvocationDispatch("beforeResolve", action));
+            getDependencyResolutionListeners().add(new ClosureBackedMethodInvocationDispatch("beforeResolve", action));
         }
 
         public void afterResolve(Action<? super ResolvableDependencies> action) {
-            dependencyResolutionListeners.add("afterResolve", action);
+            getDependencyResolutionListeners().add("afterResolve", action);
         }
 
         public void afterResolve(Closure action) {
-            dependencyResolutionListeners.add(new ClosureBackedMethodInvocationDispatch("afterResolve", action));
+            getDependencyResolutionListeners().add(new ClosureBackedMethodInvocationDispatch("afterResolve", action));
         }
 
         public ResolutionResult getResolutionResult() {
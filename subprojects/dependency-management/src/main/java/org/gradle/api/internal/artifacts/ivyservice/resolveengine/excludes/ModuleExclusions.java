@@ -60,6 +60,7 @@ public class ModuleExclusions {
     private final Map<MergeOperation, AbstractModuleExclusion> mergeCache = Maps.newConcurrentMap();
     private final Map<ImmutableList<ExcludeMetadata>, AbstractModuleExclusion> excludeAnyCache = Maps.newConcurrentMap();
     private final Map<ImmutableSet<AbstractModuleExclusion>, IntersectionExclusion> intersectionCache = Maps.newConcurrentMap();
+    private final Map<UnionOperation, ModuleExclusion> unionCache = Maps.newConcurrentMap();
     private final Map<AbstractModuleExclusion[], Map<AbstractModuleExclusion[], MergeOperation>> mergeOperationCache = Maps.newIdentityHashMap();
     private final Map<ModuleIdentifier, ModuleIdExcludeSpec> moduleIdSpecs = Maps.newConcurrentMap();
     private final Map<String, ModuleNameExcludeSpec> moduleNameSpecs = Maps.newConcurrentMap();
@@ -217,6 +218,16 @@ public class ModuleExclusions {
             return one;
         }
 
+        UnionOperation operation = new UnionOperation(one, two);
+        ModuleExclusion exclusion = unionCache.get(operation);
+        if (exclusion == null) {
+            exclusion = doUnion(one, two);
+            unionCache.put(operation, exclusion);
+        }
+        return exclusion;
+    }
+
+    private ModuleExclusion doUnion(ModuleExclusion one, ModuleExclusion two) {
         List<AbstractModuleExclusion> specs = new ArrayList<AbstractModuleExclusion>();
         ((AbstractModuleExclusion) one).unpackUnion(specs);
         ((AbstractModuleExclusion) two).unpackUnion(specs);
@@ -444,6 +455,36 @@ public class ModuleExclusions {
         }
     }
 
+    private static final class UnionOperation {
+        private final ModuleExclusion one;
+        private final ModuleExclusion two;
+        private final int hashCode;
+
+        private UnionOperation(ModuleExclusion one, ModuleExclusion two) {
+            this.one = one;
+            this.two = two;
+            this.hashCode = 31 * one.hashCode() + two.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            UnionOperation that = (UnionOperation) o;
+            return hashCode == that.hashCode && one.equals(that.one) && two.equals(that.two);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     private static final class MergeSet extends HashSet<AbstractModuleExclusion> {
         private final BitSet remaining;
         private int idx;
@@ -53,8 +53,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 
@@ -316,7 +318,7 @@ public class DependencyGraphBuilder {
         }
 
         // Collect the components to sort in consumer-first order
-        List<ComponentState> queue = new ArrayList<ComponentState>();
+        Deque<ComponentState> queue = new ArrayDeque<ComponentState>();
         for (ModuleResolveState module : resolveState.getModules()) {
             if (module.getSelected() != null) {
                 queue.add(module.getSelected());
@@ -324,11 +326,12 @@ public class DependencyGraphBuilder {
         }
 
         // Visit the edges after sorting the components in consumer-first order
+        List<ComponentState> consumers = new ArrayList<ComponentState>();
         while (!queue.isEmpty()) {
-            ComponentState component = queue.get(0);
+            ComponentState component = queue.getFirst();
             if (component.getVisitState() == VisitState.NotSeen) {
                 component.setVisitState(VisitState.Visiting);
-                int pos = 0;
+                consumers.clear();
                 for (NodeState node : component.getNodes()) {
                     if (!node.isSelected()) {
                         continue;
@@ -336,15 +339,18 @@ public class DependencyGraphBuilder {
                     for (EdgeState edge : node.getIncomingEdges()) {
                         ComponentState owner = edge.getFrom().getOwner();
                         if (owner.getVisitState() == VisitState.NotSeen) {
-                            queue.add(pos, owner);
-                            pos++;
+                            consumers.add(owner);
                         } // else, already visited or currently visiting (which means a cycle), skip
                     }
                 }
-                if (pos == 0) {
+                // Queue the consumers ahead of this component, in the order they were found
+                for (int i = consumers.size() - 1; i >= 0; i--) {
+                    queue.addFirst(consumers.get(i));
+                }
+                if (consumers.isEmpty()) {
                     // have visited all consumers, so visit this node
                     component.setVisitState(VisitState.Visited);
-                    queue.remove(0);
+                    queue.removeFirst();
                     for (NodeState node : component.getNodes()) {
                         if (node.isSelected()) {
                             visitor.visitEdges(node);
@@ -354,7 +360,7 @@ public class DependencyGraphBuilder {
             } else if (component.getVisitState() == VisitState.Visiting) {
                 // have visited all consumers, so visit this node
                 component.setVisitState(VisitState.Visited);
-                queue.remove(0);
+                queue.removeFirst();
                 for (NodeState node : component.getNodes()) {
                     if (node.isSelected()) {
                         visitor.visitEdges(node);
@@ -362,7 +368,7 @@ public class DependencyGraphBuilder {
                 }
             } else {
                 // else, already visited previously, skip
-                queue.remove(0);
+                queue.removeFirst();
             }
         }
 
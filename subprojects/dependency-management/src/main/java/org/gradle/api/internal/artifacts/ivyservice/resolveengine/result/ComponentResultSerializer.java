@@ -18,11 +18,13 @@ package org.gradle.api.internal.artifacts.ivyservice.resolveengine.result;
 
 import org.gradle.api.artifacts.ModuleVersionIdentifier;
 import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.artifacts.component.ModuleComponentIdentifier;
 import org.gradle.api.artifacts.result.ComponentSelectionReason;
 import org.gradle.api.attributes.AttributeContainer;
 import org.gradle.api.internal.artifacts.ImmutableModuleIdentifierFactory;
 import org.gradle.api.internal.artifacts.ModuleVersionIdentifierSerializer;
 import org.gradle.api.internal.artifacts.ivyservice.resolveengine.graph.ComponentResult;
+import org.gradle.internal.component.external.model.DefaultModuleComponentIdentifier;
 import org.gradle.internal.serialize.Decoder;
 import org.gradle.internal.serialize.Encoder;
 import org.gradle.internal.serialize.Serializer;
@@ -50,7 +52,22 @@ public class ComponentResultSerializer implements Serializer<ComponentResult> {
         ComponentIdentifier componentId = componentIdSerializer.read(decoder);
         String variantName = decoder.readString();
         AttributeContainer attributes = attributeContainerSerializer.read(decoder);
-        return new DefaultComponentResult(resultId, id, reason, componentId, variantName, attributes);
+        return new DefaultComponentResult(resultId, id, reason, withSharedCoordinates(componentId, id), variantName, attributes);
+    }
+
+    /**
+     * The results of many configurations retain the same external components, and each load reads fresh copies of their coordinates.
+     * Rebuilds a module component identifier from the interned module version, so that loaded results share those strings.
+     */
+    private static ComponentIdentifier withSharedCoordinates(ComponentIdentifier componentId, ModuleVersionIdentifier id) {
+        if (componentId.getClass() != DefaultModuleComponentIdentifier.class) {
+            return componentId;
+        }
+        ModuleComponentIdentifier moduleComponentId = (ModuleComponentIdentifier) componentId;
+        if (moduleComponentId.getVersion().equals(id.getVersion()) && moduleComponentId.getModule().equals(id.getName()) && moduleComponentId.getGroup().equals(id.getGroup())) {
+            return DefaultModuleComponentIdentifier.newId(id);
+        }
+        return componentId;
     }
 
     public void write(Encoder encoder, ComponentResult value) throws IOException {
@@ -1047,7 +1047,7 @@ class DefaultConfigurationSpec extends Specification {
         def config = conf("conf")
 
         then:
-        1 * listenerManager.createAnonymousBroadcaster(_) >> listenerBroadcaster
+        0 * listenerManager.createAnonymousBroadcaster(_)
 
         def listener = Mock(DependencyResolutionListener)
 
@@ -1057,6 +1057,7 @@ class DefaultConfigurationSpec extends Specification {
         config.incoming.getResolutionResult()
 
         then:
+        1 * listenerManager.createAnonymousBroadcaster(_) >> listenerBroadcaster
         _ * listenerBroadcaster.getSource() >> listener
         1 * listener.beforeResolve(config.incoming)
         1 * listener.afterResolve(config.incoming)
@@ -758,6 +758,28 @@ class DefaultModuleExclusionTest extends Specification {
         union(intersection, simpleExclude)
     }
 
+    def "does not accept module that matches any of many group, module name and module id exclude rules"() {
+        def rules = (1..100).collect { excludeRule("org$it", "module$it") } + [excludeGroupRule("group"), excludeModuleRule("module"), regexpExcludeRule("regexp.*", "*")]
+        def spec = excludeAny(rules as Exclude[])
+
+        expect:
+        spec.excludeModule(moduleId("org42", "module42"))
+        spec.excludeModule(moduleId("group", "other"))
+        spec.excludeModule(moduleId("other", "module"))
+        spec.excludeModule(moduleId("regexp.org", "other"))
+        !spec.excludeModule(moduleId("org42", "module43"))
+        !spec.excludeModule(moduleId("other", "other"))
+    }
+
+    def "union of the same specs returns the same instance"() {
+        def spec = excludeAny(excludeRule("org", "module"), regexpExcludeRule("org", "module2"))
+        def spec2 = excludeAny(excludeRule("org", "module"), regexpExcludeRule("org", "module3"))
+
+        expect:
+        union(spec, spec2).is(union(spec, spec2))
+        union(spec, spec2).is(union(excludeAny(excludeRule("org", "module"), regexpExcludeRule("org", "module2")), spec2))
+    }
+
     ModuleExclusion union(ModuleExclusion spec, ModuleExclusion otherRule) {
         moduleExclusions.union(spec, otherRule)
     }
@@ -18,6 +18,7 @@ package org.gradle.api.internal.artifacts.ivyservice.resolveengine.result
 
 import org.gradle.api.attributes.Attribute
 import org.gradle.api.internal.artifacts.DefaultImmutableModuleIdentifierFactory
+import org.gradle.api.internal.attributes.ImmutableAttributes
 import org.gradle.api.internal.model.NamedObjectInstantiator
 import org.gradle.internal.component.external.model.DefaultModuleComponentIdentifier
 import org.gradle.internal.serialize.SerializerSpec
@@ -51,4 +52,25 @@ class ComponentResultSerializerTest extends SerializerSpec {
         result.variantName == 'default'
         result.variantAttributes == attributes.asImmutable()
     }
+
+    def "shares coordinates of module component identifiers with the module version"() {
+        def componentIdentifier = new DefaultModuleComponentIdentifier(new String('org'), new String('foo'), new String('2.0'))
+        def selection = new DefaultComponentResult(12L,
+            newId("org", "foo", "2.0"),
+            VersionSelectionReasons.requested(),
+            componentIdentifier, 'default',
+            ImmutableAttributes.EMPTY)
+
+        when:
+        def first = serialize(selection, serializer)
+        def second = serialize(selection, serializer)
+
+        then:
+        first.componentId == componentIdentifier
+        first.componentId.group.is(first.moduleVersion.group)
+        first.componentId.module.is(first.moduleVersion.name)
+        first.componentId.version.is(first.moduleVersion.version)
+        second.componentId.group.is(first.componentId.group)
+        second.componentId.version.is(first.componentId.version)
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.language.nativeplatform.internal.incremental.sourceparser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+/**
+ * Extracts the include directives from a synthetic corpus of headers, shaped like the headers of a large C library:
+ * a license comment, an include guard, a block of includes and macros, then mostly declarations and documentation comments.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class CSourceParserBenchmark {
+
+    private static final int FILE_COUNT = 200;
+
+    @Param({"200", "2000"})
+    int linesPerFile;
+
+    private final RegexBackedCSourceParser parser = new RegexBackedCSourceParser();
+    private String[] sources;
+
+    @Setup
+    public void createSources() {
+        Random random = new Random(42);
+        sources = new String[FILE_COUNT];
+        for (int i = 0; i < FILE_COUNT; i++) {
+            StringBuilder source = new StringBuilder();
+            source.append("/*\n * Copyright (c) the authors.\n *\n * Licensed under the terms of the license.\n */\n");
+            source.append("#ifndef HEADER_").append(i).append("_H\n");
+            source.append("#define HEADER_").append(i).append("_H\n\n");
+            for (int j = 0; j < 15; j++) {
+                source.append("#include ").append(random.nextBoolean() ? "<sys/header" : "\"lib/header").append(random.nextInt(FILE_COUNT)).append(".h").append(random.nextBoolean() ? ">" : "\"").append('\n');
+            }
+            source.append("#include CONFIG_HEADER(arch, config.h)\n\n");
+            int line = 0;
+            while (line < linesPerFile) {
+                switch (random.nextInt(10)) {
+                    case 0:
+                        source.append("#define MACRO_").append(i).append('_').append(line).append("(a, b) \\\n    ((a) > (b) ? (a) : (b))\n");
+                        line += 2;
+                        break;
+                    case 1:
+                    case 2:
+                        source.append("/**\n * Returns the value of the given field, or {@code NULL} when \"missing\".\n *\n * @param field the field\n */\n");
+                        line += 5;
+                        break;
+                    case 3:
+                        source.append("struct item_").append(line).append(" {\n    int count; // number of entries\n    const char *name;\n};\n\n");
+                        line += 5;
+                        break;
+                    default:
+                        source.append("extern int function_").append(i).append('_').append(line).append("(const struct item *item, unsigned long flags, char buffer[64]);\n");
+                        line++;
+                }
+            }
+            source.append("\n#endif /* HEADER_").append(i).append("_H */\n");
+            sources[i] = source.toString();
+        }
+    }
+
+    @Benchmark
+    public void parseHeaders(Blackhole blackhole) throws IOException {
+        for (String source : sources) {
+            blackhole.consume(parser.parseSource(new StringReader(source)));
+        }
+    }
+}
@@ -17,10 +17,13 @@
 package org.gradle.language.nativeplatform.internal;
 
 import org.gradle.api.internal.changedetection.changes.DiscoveredInputRecorder;
+import org.gradle.internal.hash.HashCode;
 import org.gradle.internal.operations.logging.BuildOperationLogger;
 import org.gradle.nativeplatform.internal.AbstractBinaryToolSpec;
 import org.gradle.nativeplatform.toolchain.internal.NativeCompileSpec;
+import org.gradle.nativeplatform.toolchain.internal.ObjectFileCache;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -46,6 +49,8 @@ public abstract class AbstractNativeCompileSpec extends AbstractBinaryToolSpec i
     private Map<File, IncludeDirectives> sourceFileIncludeDirectives;
     private String preCompiledHeader;
     private DiscoveredInputRecorder discoveredInputRecorder;
+    private ObjectFileCache objectFileCache;
+    private Map<File, HashCode> sourceFileInputHashes = Collections.emptyMap();
 
     @Override
     public List<File> getIncludeRoots() {
@@ -219,4 +224,25 @@ public abstract class AbstractNativeCompileSpec extends AbstractBinaryToolSpec i
     public void setSourceFileIncludeDirectives(Map<File, IncludeDirectives> map) {
         this.sourceFileIncludeDirectives = map;
     }
+
+    @Nullable
+    @Override
+    public ObjectFileCache getObjectFileCache() {
+        return objectFileCache;
+    }
+
+    @Override
+    public void setObjectFileCache(@Nullable ObjectFileCache objectFileCache) {
+        this.objectFileCache = objectFileCache;
+    }
+
+    @Override
+    public Map<File, HashCode> getSourceFileInputHashes() {
+        return sourceFileInputHashes;
+    }
+
+    @Override
+    public void setSourceFileInputHashes(Map<File, HashCode> map) {
+        this.sourceFileInputHashes = map;
+    }
 }
@@ -32,22 +32,23 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class DefaultSourceIncludesResolver implements SourceIncludesResolver {
     private final List<File> includePaths;
     private final FileSystemSnapshotter fileSystemSnapshotter;
-    private final Map<File, Map<String, IncludeFileImpl>> includeRoots;
+    private final ConcurrentMap<File, Map<String, IncludeFileImpl>> includeRoots;
 
     public DefaultSourceIncludesResolver(List<File> includePaths, FileSystemSnapshotter fileSystemSnapshotter) {
         this.includePaths = includePaths;
         this.fileSystemSnapshotter = fileSystemSnapshotter;
-        this.includeRoots = new HashMap<File, Map<String, IncludeFileImpl>>();
+        this.includeRoots = new ConcurrentHashMap<File, Map<String, IncludeFileImpl>>();
     }
 
     @Override
@@ -264,11 +265,14 @@ public class DefaultSourceIncludesResolver implements SourceIncludesResolver {
         for (File searchDir : searchPath) {
             Map<String, IncludeFileImpl> searchedIncludes = includeRoots.get(searchDir);
             if (searchedIncludes == null) {
-                searchedIncludes = new HashMap<String, IncludeFileImpl>();
-                includeRoots.put(searchDir, searchedIncludes);
+                searchedIncludes = new ConcurrentHashMap<String, IncludeFileImpl>();
+                Map<String, IncludeFileImpl> existing = includeRoots.putIfAbsent(searchDir, searchedIncludes);
+                if (existing != null) {
+                    searchedIncludes = existing;
+                }
             }
-            if (searchedIncludes.containsKey(include)) {
-                IncludeFileImpl includeFile = searchedIncludes.get(include);
+            IncludeFileImpl includeFile = searchedIncludes.get(include);
+            if (includeFile != null) {
                 if (includeFile.snapshot.getType() == FileType.RegularFile) {
                     dependencies.resolved(includeFile);
                     return;
@@ -278,7 +282,7 @@ public class DefaultSourceIncludesResolver implements SourceIncludesResolver {
 
             File candidate = new File(searchDir, include);
             FileSnapshot fileSnapshot = fileSystemSnapshotter.snapshotSelf(candidate);
-            IncludeFileImpl includeFile = fileSnapshot.getType() == FileType.RegularFile ? new IncludeFileImpl(candidate, fileSnapshot) : new IncludeFileImpl(null, fileSnapshot);
+            includeFile = fileSnapshot.getType() == FileType.RegularFile ? new IncludeFileImpl(candidate, fileSnapshot) : new IncludeFileImpl(null, fileSnapshot);
             searchedIncludes.put(include, includeFile);
 
             if (fileSnapshot.getType() == FileType.RegularFile) {
@@ -16,9 +16,17 @@
 
 package org.gradle.language.nativeplatform.internal.incremental;
 
+import org.gradle.internal.operations.BuildOperationExecutor;
+
 import java.io.File;
+import java.util.Collection;
 
 public interface IncementalCompileSourceProcessor {
+    /**
+     * Parses the given source files and the header files they include ahead of processing, spreading the work across the given executor.
+     */
+    void parseSources(Collection<File> sourceFiles, BuildOperationExecutor buildOperationExecutor);
+
     void processSource(File sourceFile);
 
     IncrementalCompilation getResult();
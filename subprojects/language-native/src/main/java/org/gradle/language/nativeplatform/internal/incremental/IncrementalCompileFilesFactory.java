@@ -17,11 +17,18 @@
 package org.gradle.language.nativeplatform.internal.incremental;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import org.gradle.api.Action;
 import org.gradle.api.internal.changedetection.state.FileSnapshot;
 import org.gradle.api.internal.changedetection.state.FileSystemSnapshotter;
 import org.gradle.internal.file.FileType;
 import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.operations.BuildOperationContext;
+import org.gradle.internal.operations.BuildOperationExecutor;
+import org.gradle.internal.operations.BuildOperationQueue;
+import org.gradle.internal.operations.RunnableBuildOperation;
+import org.gradle.internal.progress.BuildOperationDescriptor;
 import org.gradle.language.nativeplatform.internal.Include;
 import org.gradle.language.nativeplatform.internal.IncludeDirectives;
 import org.gradle.language.nativeplatform.internal.IncludeType;
@@ -31,17 +38,22 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class IncrementalCompileFilesFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalCompileFilesFactory.class);
     private static final String IGNORE_UNRESOLVED_HEADERS_IN_DEPENDENCIES_PROPERTY_NAME = "org.gradle.internal.native.headers.unresolved.dependencies.ignore";
+    private static final int PARSE_BATCH_SIZE = 100;
 
     private final SourceIncludesParser sourceIncludesParser;
     private final SourceIncludesResolver sourceIncludesResolver;
@@ -66,6 +78,7 @@ public class IncrementalCompileFilesFactory {
         private final Set<File> existingHeaders = Sets.newHashSet();
         private final Map<File, IncludeDirectives> includeDirectivesMap = new HashMap<File, IncludeDirectives>();
         private final Map<File, FileDetails> visitedFiles = new HashMap<File, FileDetails>();
+        private final Map<File, IncludeDirectives> parsedFiles = new ConcurrentHashMap<File, IncludeDirectives>();
         int traversalCount;
         private boolean hasUnresolvedHeaders;
 
@@ -78,6 +91,32 @@ public class IncrementalCompileFilesFactory {
             return new DefaultIncrementalCompilation(current.snapshot(), toRecompile, getRemovedSources(), existingHeaders, hasUnresolvedHeaders, includeDirectivesMap);
         }
 
+        @Override
+        public void parseSources(Collection<File> sourceFiles, BuildOperationExecutor buildOperationExecutor) {
+            // Parse the files one level of the include graph at a time, resolving only the includes that do not depend on macros.
+            // This does not change the result of processing, as the include graph is still traversed serially using the parsed files.
+            final Set<File> seen = Sets.newConcurrentHashSet();
+            List<File> toParse = new ArrayList<File>(sourceFiles.size());
+            for (File sourceFile : sourceFiles) {
+                if (seen.add(sourceFile)) {
+                    toParse.add(sourceFile);
+                }
+            }
+            while (!toParse.isEmpty()) {
+                final Queue<File> discovered = new ConcurrentLinkedQueue<File>();
+                final List<List<File>> batches = Lists.partition(toParse, PARSE_BATCH_SIZE);
+                buildOperationExecutor.runAll(new Action<BuildOperationQueue<ParseFilesOperation>>() {
+                    @Override
+                    public void execute(BuildOperationQueue<ParseFilesOperation> queue) {
+                        for (List<File> batch : batches) {
+                            queue.add(new ParseFilesOperation(batch, seen, discovered));
+                        }
+                    }
+                });
+                toParse = new ArrayList<File>(discovered);
+            }
+        }
+
         @Override
         public void processSource(File sourceFile) {
             if (visitSourceFile(sourceFile)) {
@@ -125,7 +164,10 @@ public class IncrementalCompileFilesFactory {
 
             if (fileDetails == null) {
                 HashCode newHash = fileSnapshot.getContent().getContentMd5();
-                IncludeDirectives includeDirectives = sourceIncludesParser.parseIncludes(file);
+                IncludeDirectives includeDirectives = parsedFiles.get(file);
+                if (includeDirectives == null) {
+                    includeDirectives = sourceIncludesParser.parseIncludes(file);
+                }
                 fileDetails = new FileDetails(new IncludeFileState(newHash, file), includeDirectives);
                 visitedFiles.put(file, fileDetails);
             }
@@ -166,6 +208,46 @@ public class IncrementalCompileFilesFactory {
             return visitResult;
         }
 
+        private class ParseFilesOperation implements RunnableBuildOperation {
+            private final List<File> files;
+            private final Set<File> seen;
+            private final Queue<File> discovered;
+
+            ParseFilesOperation(List<File> files, Set<File> seen, Queue<File> discovered) {
+                this.files = files;
+                this.seen = seen;
+                this.discovered = discovered;
+            }
+
+            @Override
+            public void run(BuildOperationContext context) {
+                CollectingMacroLookup noMacros = new CollectingMacroLookup();
+                for (File file : files) {
+                    if (fileSystemSnapshotter.snapshotSelf(file).getType() != FileType.RegularFile) {
+                        continue;
+                    }
+                    IncludeDirectives includeDirectives = sourceIncludesParser.parseIncludes(file);
+                    parsedFiles.put(file, includeDirectives);
+                    for (Include include : includeDirectives.getAll()) {
+                        if (include.getType() != IncludeType.QUOTED && include.getType() != IncludeType.SYSTEM) {
+                            // Resolving this include depends on the macros visible where the file is included
+                            continue;
+                        }
+                        for (SourceIncludesResolver.IncludeFile includeFile : sourceIncludesResolver.resolveInclude(file, include, noMacros).getFiles()) {
+                            if (seen.add(includeFile.getFile())) {
+                                discovered.add(includeFile.getFile());
+                            }
+                        }
+                    }
+                }
+            }
+
+            @Override
+            public BuildOperationDescriptor.Builder description() {
+                return BuildOperationDescriptor.displayName("Parse " + files.size() + " source files");
+            }
+        }
+
         private List<File> getRemovedSources() {
             List<File> removed = new ArrayList<File>();
             for (File previousSource : previous.getSourceInputs()) {
@@ -41,6 +41,7 @@ public class IncrementalCompileProcessor {
             public IncrementalCompilation call(BuildOperationContext context) {
                 CompilationState previousCompileState = previousCompileStateCache.get();
                 IncementalCompileSourceProcessor processor = incrementalCompileFilesFactory.filesFor(previousCompileState);
+                processor.parseSources(sourceFiles, buildOperationExecutor);
                 for (File sourceFile : sourceFiles) {
                     processor.processSource(sourceFile);
                 }
@@ -15,14 +15,22 @@
  */
 package org.gradle.language.nativeplatform.internal.incremental;
 
+import com.google.common.collect.ImmutableMap;
 import org.gradle.api.NonNullApi;
 import org.gradle.api.internal.TaskOutputsInternal;
 import org.gradle.api.tasks.WorkResult;
 import org.gradle.api.tasks.WorkResults;
 import org.gradle.cache.PersistentStateCache;
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.hash.Hasher;
+import org.gradle.internal.hash.Hashing;
 import org.gradle.language.base.internal.compile.Compiler;
 import org.gradle.language.base.internal.tasks.SimpleStaleClassCleaner;
 import org.gradle.nativeplatform.toolchain.internal.NativeCompileSpec;
+import org.gradle.nativeplatform.toolchain.internal.ObjectFileCache;
+
+import java.io.File;
+import java.util.Map;
 
 @NonNullApi
 public class IncrementalNativeCompiler<T extends NativeCompileSpec> implements Compiler<T> {
@@ -41,6 +49,10 @@ public class IncrementalNativeCompiler<T extends NativeCompileSpec> implements C
     @Override
     public WorkResult execute(final T spec) {
         spec.setSourceFileIncludeDirectives(incrementalCompilation.getSourceFileIncludeDirectives());
+        ObjectFileCache objectFileCache = spec.getObjectFileCache();
+        if (objectFileCache != null && !incrementalCompilation.isUnresolvedHeaders()) {
+            spec.setSourceFileInputHashes(sourceFileInputHashes(incrementalCompilation.getFinalState(), objectFileCache));
+        }
 
         WorkResult workResult;
         if (spec.isIncrementalCompile()) {
@@ -70,6 +82,25 @@ public class IncrementalNativeCompiler<T extends NativeCompileSpec> implements C
         return compileResult;
     }
 
+    /**
+     * Hashes the content of each source file together with the location and content of every header it includes. Header locations within the build are normalized
+     * by the cache, so that the hashes are the same for a build in another location.
+     */
+    private static Map<File, HashCode> sourceFileInputHashes(CompilationState state, ObjectFileCache objectFileCache) {
+        ImmutableMap.Builder<File, HashCode> hashes = ImmutableMap.builder();
+        for (Map.Entry<File, SourceFileState> entry : state.getFileStates().entrySet()) {
+            SourceFileState sourceFileState = entry.getValue();
+            Hasher hasher = Hashing.md5().newHasher();
+            hasher.putHash(sourceFileState.getHash());
+            for (IncludeFileState includeFileState : sourceFileState.getResolvedIncludes()) {
+                hasher.putString(objectFileCache.normalizePaths(includeFileState.getIncludeFile().getAbsolutePath()));
+                hasher.putHash(includeFileState.getHash());
+            }
+            hashes.put(entry.getKey(), hasher.hash());
+        }
+        return hashes.build();
+    }
+
     private boolean cleanPreviousOutputs(NativeCompileSpec spec) {
         SimpleStaleClassCleaner cleaner = new SimpleStaleClassCleaner(outputs);
         cleaner.setDestinationDir(spec.getObjectFileDir());
@@ -16,18 +16,33 @@
 
 package org.gradle.language.nativeplatform.internal.incremental.sourceparser;
 
+import org.gradle.api.internal.GradleInternal;
+import org.gradle.api.internal.changedetection.state.FileSnapshot;
+import org.gradle.api.internal.changedetection.state.FileSystemSnapshotter;
 import org.gradle.cache.internal.FileContentCache;
 import org.gradle.cache.internal.FileContentCacheFactory;
 import org.gradle.internal.file.FileType;
+import org.gradle.internal.hash.HashCode;
 import org.gradle.language.nativeplatform.internal.IncludeDirectives;
 
 import java.io.File;
 
+/**
+ * Caches the include directives parsed from source files. The directives of files that belong to the build are cached in the build's file content cache.
+ * The directives of all other files, such as system headers and the headers of dependencies, are cached in the {@link SharedIncludeDirectivesCache}.
+ */
 public class CachingCSourceParser implements CSourceParser {
+    private final RegexBackedCSourceParser parser = new RegexBackedCSourceParser();
     private final FileContentCache<IncludeDirectives> cache;
+    private final SharedIncludeDirectivesCache sharedCache;
+    private final FileSystemSnapshotter fileSystemSnapshotter;
+    private final GradleInternal gradle;
+    private String rootDirPrefix;
 
-    public CachingCSourceParser(FileContentCacheFactory cacheFactory) {
-        final RegexBackedCSourceParser parser = new RegexBackedCSourceParser();
+    public CachingCSourceParser(FileContentCacheFactory cacheFactory, SharedIncludeDirectivesCache sharedCache, FileSystemSnapshotter fileSystemSnapshotter, GradleInternal gradle) {
+        this.sharedCache = sharedCache;
+        this.fileSystemSnapshotter = fileSystemSnapshotter;
+        this.gradle = gradle;
         cache = cacheFactory.newCache("parsedCSource", 40000, new FileContentCacheFactory.Calculator<IncludeDirectives>() {
             @Override
             public IncludeDirectives calculate(File file, FileType fileType) {
@@ -38,6 +53,26 @@ public class CachingCSourceParser implements CSourceParser {
 
     @Override
     public IncludeDirectives parseSource(File sourceFile) {
-        return cache.get(sourceFile);
+        if (isInsideBuild(sourceFile)) {
+            return cache.get(sourceFile);
+        }
+        FileSnapshot snapshot = fileSystemSnapshotter.snapshotSelf(sourceFile);
+        if (snapshot.getType() != FileType.RegularFile) {
+            return cache.get(sourceFile);
+        }
+        HashCode contentHash = snapshot.getContent().getContentMd5();
+        IncludeDirectives includeDirectives = sharedCache.get(contentHash);
+        if (includeDirectives == null) {
+            includeDirectives = parser.parseSource(sourceFile);
+            sharedCache.put(contentHash, includeDirectives);
+        }
+        return includeDirectives;
+    }
+
+    private boolean isInsideBuild(File file) {
+        if (rootDirPrefix == null) {
+            rootDirPrefix = gradle.getRootProject().getRootDir().getAbsolutePath() + File.separator;
+        }
+        return file.getAbsolutePath().startsWith(rootDirPrefix);
     }
 }
@@ -24,6 +24,12 @@ import java.io.Reader;
  */
 public class PreprocessingReader {
     private final Reader reader;
+    /**
+     * Characters read from the underlying reader in bulk, to avoid a call to the reader for each character.
+     */
+    private final char[] chars = new char[8192];
+    private int charsPos;
+    private int charsLength;
     /**
      * The read-ahead characters, used for reading ahead up to 2 characters and pushing back into stream.
      * A value of -1 indicates that no character is in the buffer.
@@ -71,6 +77,72 @@ public class PreprocessingReader {
         return read;
     }
 
+    /**
+     * Collects the next line from the filtered stream whose first non-whitespace character is '#' into the given buffer, starting with the '#'. Does not include the line separators.
+     * Lines that are not preprocessor directives are consumed without being collected.
+     *
+     * @return true if a directive line is available, false when end of stream reached.
+     */
+    public boolean readNextDirective(Appendable buffer) throws IOException {
+        int ch;
+        boolean directive = false;
+        boolean skipLine = false;
+        while (true) {
+            if (skipLine) {
+                skipPlainCharacters();
+            }
+            ch = read();
+            if (ch < 0) {
+                break;
+            }
+            if (ch == '\n' || ch == '\r') {
+                if (ch == '\r') {
+                    int next = next();
+                    if (next != '\n') {
+                        pushBack(next);
+                    }
+                }
+                if (directive) {
+                    return true;
+                }
+                skipLine = false;
+                continue;
+            }
+            if (directive) {
+                buffer.append((char) ch);
+            } else if (!skipLine && !Character.isWhitespace(ch) && ch != 0) {
+                if (ch == '#') {
+                    directive = true;
+                    buffer.append((char) ch);
+                } else {
+                    skipLine = true;
+                }
+            }
+        }
+        return directive;
+    }
+
+    /**
+     * Skips buffered characters that have no special meaning to the filter, so they do not need to go through {@link #read()} one at a time.
+     */
+    private void skipPlainCharacters() {
+        if (readAheadChars[0] != -1) {
+            return;
+        }
+        int pos = charsPos;
+        while (pos < charsLength) {
+            char ch = chars[pos];
+            if (ch == '\n' || ch == '\r' || ch == '\\' || ch == '"' || ch == '/') {
+                break;
+            }
+            pos++;
+        }
+        if (pos != charsPos) {
+            quoted = false;
+            charsPos = pos;
+        }
+    }
+
     /**
      * Returns the next character in the filtered stream:
      * <ul>
@@ -153,7 +225,15 @@ public class PreprocessingReader {
             return ch;
         }
 
-        return reader.read();
+        if (charsPos == charsLength) {
+            charsLength = reader.read(chars);
+            charsPos = 0;
+            if (charsLength <= 0) {
+                charsLength = 0;
+                return -1;
+            }
+        }
+        return chars[charsPos++];
     }
 
     private void pushBack(int ch) {
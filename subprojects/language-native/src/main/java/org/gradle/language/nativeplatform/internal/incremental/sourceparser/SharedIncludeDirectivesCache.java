@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.language.nativeplatform.internal.incremental.sourceparser;
+
+import org.gradle.api.internal.changedetection.state.InMemoryCacheDecoratorFactory;
+import org.gradle.cache.CacheRepository;
+import org.gradle.cache.FileLockManager;
+import org.gradle.cache.PersistentCache;
+import org.gradle.cache.PersistentIndexedCache;
+import org.gradle.cache.PersistentIndexedCacheParameters;
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.serialize.HashCodeSerializer;
+import org.gradle.language.nativeplatform.internal.IncludeDirectives;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+
+import static org.gradle.cache.internal.filelock.LockOptionsBuilder.mode;
+
+/**
+ * A machine-wide store of the include directives parsed from a file, keyed on the hash of the file content. Lives in the Gradle user home, so that
+ * the directives of headers that do not belong to any particular build, such as system and dependency headers, are shared by all builds and daemons.
+ *
+ * <p>Each entry is stored and read separately, so a lookup only reads the entry for the requested hash.</p>
+ */
+public class SharedIncludeDirectivesCache implements Closeable {
+    private final PersistentCache cache;
+    private final PersistentIndexedCache<HashCode, IncludeDirectives> store;
+
+    public SharedIncludeDirectivesCache(CacheRepository cacheRepository, InMemoryCacheDecoratorFactory inMemoryCacheDecoratorFactory) {
+        cache = cacheRepository
+            .cache("native-include-directives")
+            .withDisplayName("native include directives cache")
+            .withLockOptions(mode(FileLockManager.LockMode.None)) // Lock on demand
+            .open();
+        PersistentIndexedCacheParameters<HashCode, IncludeDirectives> parameters = new PersistentIndexedCacheParameters<HashCode, IncludeDirectives>("includeDirectives", new HashCodeSerializer(), new IncludeDirectivesSerializer())
+            .cacheDecorator(inMemoryCacheDecoratorFactory.decorator(40000, true));
+        store = cache.createCache(parameters);
+    }
+
+    @Nullable
+    public IncludeDirectives get(HashCode contentHash) {
+        return store.get(contentHash);
+    }
+
+    public void put(HashCode contentHash, IncludeDirectives includeDirectives) {
+        store.put(contentHash, includeDirectives);
+    }
+
+    @Override
+    public void close() {
+        cache.close();
+    }
+}
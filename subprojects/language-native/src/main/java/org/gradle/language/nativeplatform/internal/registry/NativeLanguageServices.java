@@ -23,9 +23,15 @@ import org.gradle.language.internal.DefaultNativeComponentFactory;
 import org.gradle.language.nativeplatform.internal.incremental.DefaultCompilationStateCacheFactory;
 import org.gradle.language.nativeplatform.internal.incremental.DefaultIncrementalCompilerBuilder;
 import org.gradle.language.nativeplatform.internal.incremental.sourceparser.CachingCSourceParser;
+import org.gradle.language.nativeplatform.internal.incremental.sourceparser.SharedIncludeDirectivesCache;
 import org.gradle.language.nativeplatform.internal.toolchains.DefaultToolChainSelector;
 
 public class NativeLanguageServices extends AbstractPluginServiceRegistry {
+    @Override
+    public void registerGradleUserHomeServices(ServiceRegistration registration) {
+        registration.add(SharedIncludeDirectivesCache.class);
+    }
+
     @Override
     public void registerGradleServices(ServiceRegistration registration) {
         registration.add(DefaultCompilationStateCacheFactory.class);
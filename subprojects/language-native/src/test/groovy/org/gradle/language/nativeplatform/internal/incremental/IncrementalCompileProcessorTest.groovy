@@ -386,6 +386,28 @@ class IncrementalCompileProcessorTest extends Specification {
         result.unresolvedHeaders
     }
 
+    def "parses each source and header file once"() {
+        given:
+        graph.keySet().each { TestFile sourceFile ->
+            resolve(sourceFile)
+        }
+
+        when:
+        def result = incrementalCompileProcessor.processSourceFiles([source1, source2])
+
+        then:
+        1 * includesParser.parseIncludes(source1) >> includes([dep1, dep2])
+        1 * includesParser.parseIncludes(source2) >> includes([dep3, dep4])
+        1 * includesParser.parseIncludes(dep1) >> includes([dep3])
+        1 * includesParser.parseIncludes(dep2) >> includes([])
+        1 * includesParser.parseIncludes(dep3) >> includes([])
+        1 * includesParser.parseIncludes(dep4) >> includes([])
+        0 * includesParser._
+
+        result.recompile == [source1, source2]
+        result.finalState.getState(source1).resolvedIncludes*.includeFile == [source1, dep1, dep3, dep2]
+    }
+
     def checkCompile(Map<String, List<File>> args) {
         parseAndResolve()
         with (state) {
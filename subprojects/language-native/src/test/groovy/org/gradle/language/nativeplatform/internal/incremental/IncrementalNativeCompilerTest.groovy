@@ -15,13 +15,19 @@
  */
 package org.gradle.language.nativeplatform.internal.incremental
 
+import com.google.common.collect.ImmutableMap
+import com.google.common.collect.ImmutableSet
 import com.google.common.collect.Sets
 import org.gradle.api.internal.TaskOutputsInternal
 import org.gradle.api.internal.file.TestFiles
 import org.gradle.api.tasks.WorkResults
 import org.gradle.cache.PersistentStateCache
+import org.gradle.internal.hash.HashCode
 import org.gradle.language.base.internal.compile.Compiler
 import org.gradle.nativeplatform.toolchain.internal.NativeCompileSpec
+import org.gradle.nativeplatform.toolchain.internal.ObjectFileCache
+import org.gradle.nativeplatform.toolchain.internal.RootDirPathNormalizer
+import org.gradle.test.fixtures.file.TestFile
 import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
 import org.gradle.util.UsesNativeServices
 import org.junit.Rule
@@ -86,4 +92,72 @@ class IncrementalNativeCompilerTest extends Specification {
         result.didWork
         outputFile.assertDoesNotExist()
     }
+
+    def "calculates input hashes from source files and their included headers when object files are cached"() {
+        def spec = Mock(NativeCompileSpec)
+        def source1 = temporaryFolder.file("source1")
+        def source2 = temporaryFolder.file("source2")
+        def header = new IncludeFileState(HashCode.fromInt(3), temporaryFolder.file("header"))
+        def finalState = new CompilationState(ImmutableMap.of(
+            source1, new SourceFileState(HashCode.fromInt(1), ImmutableSet.of(new IncludeFileState(HashCode.fromInt(1), source1), header)),
+            source2, new SourceFileState(HashCode.fromInt(2), ImmutableSet.of(new IncludeFileState(HashCode.fromInt(2), source2), header))))
+        Map<File, HashCode> inputHashes = null
+
+        when:
+        compiler.execute(spec)
+
+        then:
+        spec.objectFileCache >> Stub(ObjectFileCache)
+        spec.incrementalCompile >> true
+        incrementalCompilation.unresolvedHeaders >> false
+        incrementalCompilation.finalState >> finalState
+        1 * spec.setSourceFileInputHashes(_) >> { Map<File, HashCode> hashes -> inputHashes = hashes }
+        1 * delegateCompiler.execute(spec) >> WorkResults.didWork(true)
+
+        and:
+        inputHashes.keySet() == [source1, source2] as Set
+        inputHashes[source1] != inputHashes[source2]
+    }
+
+    def "input hashes are the same for builds in different locations"() {
+        expect:
+        inputHash(temporaryFolder.file("checkout1")) == inputHash(temporaryFolder.file("checkout2"))
+    }
+
+    private HashCode inputHash(TestFile rootDir) {
+        def source = rootDir.file("src/main.c")
+        def header = rootDir.file("include/header.h")
+        def finalState = new CompilationState(ImmutableMap.of(
+            source, new SourceFileState(HashCode.fromInt(1), ImmutableSet.of(new IncludeFileState(HashCode.fromInt(1), source), new IncludeFileState(HashCode.fromInt(2), header)))))
+        def pathNormalizer = new RootDirPathNormalizer(rootDir)
+        def objectFileCache = Stub(ObjectFileCache) {
+            normalizePaths(_) >> { String text -> pathNormalizer.normalize(text) }
+        }
+        Map<File, HashCode> inputHashes = null
+        def spec = Stub(NativeCompileSpec) {
+            getObjectFileCache() >> objectFileCache
+            isIncrementalCompile() >> true
+            setSourceFileInputHashes(_) >> { Map<File, HashCode> hashes -> inputHashes = hashes }
+        }
+        def incrementalCompilation = Stub(IncrementalCompilation) {
+            isUnresolvedHeaders() >> false
+            getFinalState() >> finalState
+        }
+        new IncrementalNativeCompiler(outputs, Stub(Compiler), compileStateCache, incrementalCompilation).execute(spec)
+        return inputHashes[source]
+    }
+
+    def "does not calculate input hashes when some headers could not be resolved"() {
+        def spec = Mock(NativeCompileSpec)
+
+        when:
+        compiler.execute(spec)
+
+        then:
+        spec.objectFileCache >> Stub(ObjectFileCache)
+        spec.incrementalCompile >> true
+        incrementalCompilation.unresolvedHeaders >> true
+        0 * spec.setSourceFileInputHashes(_)
+        1 * delegateCompiler.execute(spec) >> WorkResults.didWork(true)
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.language.nativeplatform.internal.incremental.sourceparser
+
+import org.gradle.api.internal.GradleInternal
+import org.gradle.api.internal.changedetection.state.TestFileSnapshotter
+import org.gradle.api.internal.project.ProjectInternal
+import org.gradle.cache.internal.FileContentCache
+import org.gradle.cache.internal.FileContentCacheFactory
+import org.gradle.language.nativeplatform.internal.IncludeDirectives
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+
+class CachingCSourceParserTest extends Specification {
+    @Rule final TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider()
+    def rootDir = tmpDir.createDir("root")
+    def fileContentCache = Mock(FileContentCache)
+    def cacheFactory = Stub(FileContentCacheFactory) {
+        newCache(_, _, _, _) >> fileContentCache
+    }
+    def sharedCache = Mock(SharedIncludeDirectivesCache)
+    def gradle = Stub(GradleInternal) {
+        getRootProject() >> Stub(ProjectInternal) {
+            getRootDir() >> rootDir
+        }
+    }
+    def parser = new CachingCSourceParser(cacheFactory, sharedCache, new TestFileSnapshotter(), gradle)
+
+    def "uses the build's file content cache for files inside the build"() {
+        def sourceFile = rootDir.createFile("src/main/cpp/main.cpp")
+        def directives = Stub(IncludeDirectives)
+
+        when:
+        def result = parser.parseSource(sourceFile)
+
+        then:
+        result == directives
+        1 * fileContentCache.get(sourceFile) >> directives
+        0 * sharedCache._
+    }
+
+    def "parses files outside the build once and stores the result in the shared cache"() {
+        def header = tmpDir.file("include/header.h") << '#include "other.h"'
+        IncludeDirectives stored = null
+
+        when:
+        def result = parser.parseSource(header)
+
+        then:
+        1 * sharedCache.get(_) >> null
+        1 * sharedCache.put(_, _) >> { hash, directives -> stored = directives }
+        0 * fileContentCache._
+
+        and:
+        result.is(stored)
+        result.all*.value == ["other.h"]
+
+        when:
+        def second = parser.parseSource(header)
+
+        then:
+        1 * sharedCache.get(_) >> stored
+        0 * sharedCache._
+        0 * fileContentCache._
+
+        and:
+        second.is(stored)
+    }
+}
@@ -152,4 +152,45 @@ line comments.
         "inline comment" | "/* inline comment at the start */of the line" | " of the line"
         "line continuation" | "${BN} at the start of the content" | " at the start of the content"
     }
+
+    def "reads only directive lines"() {
+        expect:
+        def reader = new PreprocessingReader(new StringReader("""
+#include "a.h"
+int a = 1; /* # not a directive
+   # still a comment */
+  	# define X "#"
+  /* comment */ #import <b.h>
+"#string" # not a directive
+#""".replace('\n', eol)))
+        def result = new StringBuilder()
+        reader.readNextDirective(result)
+        result.toString() == '#include "a.h"'
+
+        result.setLength(0)
+        reader.readNextDirective(result)
+        result.toString() == '# define X "#"'
+
+        result.setLength(0)
+        reader.readNextDirective(result)
+        result.toString() == '#import <b.h>'
+
+        result.setLength(0)
+        reader.readNextDirective(result)
+        result.toString() == '#'
+
+        !reader.readNextDirective(result)
+
+        where:
+        eol << ['\n', '\r', '\r\n']
+    }
+
+    def "reads directive split by line continuation"() {
+        expect:
+        def reader = new PreprocessingReader(new StringReader("int a;${BN}#define A${BN} B\n#define C"))
+        def result = new StringBuilder()
+        reader.readNextDirective(result)
+        result.toString() == "#define C"
+        !reader.readNextDirective(result)
+    }
 }
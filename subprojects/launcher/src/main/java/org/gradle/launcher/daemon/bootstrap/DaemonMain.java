@@ -20,6 +20,7 @@ import org.gradle.api.UncheckedIOException;
 import org.gradle.api.logging.LogLevel;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.logging.Logging;
+import org.gradle.initialization.ClassLoaderRegistry;
 import org.gradle.internal.classpath.DefaultClassPath;
 import org.gradle.internal.concurrent.CompositeStoppable;
 import org.gradle.internal.logging.LoggingManagerInternal;
@@ -78,6 +79,8 @@ public class DaemonMain extends EntryPoint {
         int idleTimeoutMs;
         int periodicCheckIntervalMs;
         boolean singleUse;
+        int spareDaemons;
+        boolean spare;
         String daemonUid;
         List<File> additionalClassPath;
 
@@ -88,6 +91,8 @@ public class DaemonMain extends EntryPoint {
             idleTimeoutMs = decoder.readSmallInt();
             periodicCheckIntervalMs = decoder.readSmallInt();
             singleUse = decoder.readBoolean();
+            spareDaemons = decoder.readSmallInt();
+            spare = decoder.readBoolean();
             daemonUid = decoder.readString();
             int argCount = decoder.readSmallInt();
             startupOpts = new ArrayList<String>(argCount);
@@ -104,7 +109,7 @@ public class DaemonMain extends EntryPoint {
         }
 
         NativeServices.initialize(gradleHomeDir);
-        DaemonServerConfiguration parameters = new DefaultDaemonServerConfiguration(daemonUid, daemonBaseDir, idleTimeoutMs, periodicCheckIntervalMs, singleUse, startupOpts);
+        DaemonServerConfiguration parameters = new DefaultDaemonServerConfiguration(daemonUid, daemonBaseDir, idleTimeoutMs, periodicCheckIntervalMs, singleUse, spareDaemons, startupOpts);
         LoggingServiceRegistry loggingRegistry = LoggingServiceRegistry.newCommandLineProcessLogging();
         LoggingManagerInternal loggingManager = loggingRegistry.newInstance(LoggingManagerInternal.class);
 
@@ -127,6 +132,11 @@ public class DaemonMain extends EntryPoint {
             DaemonContext daemonContext = daemonServices.get(DaemonContext.class);
             Long pid = daemonContext.getPid();
             daemonStarted(pid, daemon.getUid(), daemon.getAddress(), daemonLog);
+            if (spare) {
+                // Nobody is waiting for a spare daemon, so create the Gradle classloaders before letting clients use it
+                daemonServices.get(ClassLoaderRegistry.class);
+                daemon.advertiseIdle();
+            }
             DaemonExpirationStrategy expirationStrategy = daemonServices.get(MasterExpirationStrategy.class);
             daemon.stopOnExpiration(expirationStrategy, parameters.getPeriodicCheckIntervalMs());
         } finally {
@@ -20,6 +20,7 @@ import org.gradle.launcher.daemon.bootstrap.DaemonGreeter;
 import org.gradle.launcher.daemon.configuration.DaemonParameters;
 import org.gradle.launcher.daemon.context.DaemonContextBuilder;
 import org.gradle.launcher.daemon.registry.DaemonDir;
+import org.gradle.launcher.daemon.registry.DaemonRegistry;
 import org.gradle.launcher.daemon.registry.DaemonRegistryServices;
 
 import java.io.InputStream;
@@ -40,6 +41,10 @@ public class DaemonClientServices extends DaemonClientServicesSupport {
         return new DefaultDaemonStarter(daemonDir, daemonParameters, daemonGreeter, jvmVersionValidator);
     }
 
+    SpareDaemonStarter createSpareDaemonStarter(DaemonRegistry daemonRegistry, DaemonStarter daemonStarter, DaemonParameters daemonParameters) {
+        return new SpareDaemonStarter(daemonRegistry, daemonStarter, daemonParameters.getSpareDaemons());
+    }
+
     protected void configureDaemonContextBuilder(DaemonContextBuilder builder) {
         builder.setDaemonRegistryDir(get(DaemonDir.class).getBaseDir());
         builder.useDaemonParameters(daemonParameters);
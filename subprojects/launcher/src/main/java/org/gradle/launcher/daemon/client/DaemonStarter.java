@@ -19,4 +19,10 @@ import org.gradle.launcher.daemon.diagnostics.DaemonStartupInfo;
 
 public interface DaemonStarter {
     DaemonStartupInfo startDaemon(boolean singleRun);
+
+    /**
+     * Starts a daemon that is advertised as idle once it has started, rather than being reserved for the caller. The daemon is started in a detached process and this method
+     * does not wait for it to start.
+     */
+    void startSpareDaemon();
 }
@@ -65,20 +65,23 @@ public class DefaultDaemonConnector implements DaemonConnector {
     private final DaemonStarter daemonStarter;
     private final DaemonStartListener startListener;
     private final ProgressLoggerFactory progressLoggerFactory;
+    private final SpareDaemonStarter spareDaemonStarter;
     private long connectTimeout = DefaultDaemonConnector.DEFAULT_CONNECT_TIMEOUT;
 
-    public DefaultDaemonConnector(DaemonRegistry daemonRegistry, OutgoingConnector connector, DaemonStarter daemonStarter, DaemonStartListener startListener, ProgressLoggerFactory progressLoggerFactory) {
+    public DefaultDaemonConnector(DaemonRegistry daemonRegistry, OutgoingConnector connector, DaemonStarter daemonStarter, DaemonStartListener startListener, ProgressLoggerFactory progressLoggerFactory, SpareDaemonStarter spareDaemonStarter) {
         Preconditions.checkNotNull(daemonRegistry);
         Preconditions.checkNotNull(connector);
         Preconditions.checkNotNull(daemonStarter);
         Preconditions.checkNotNull(startListener);
         Preconditions.checkNotNull(progressLoggerFactory);
+        Preconditions.checkNotNull(spareDaemonStarter);
 
         this.daemonRegistry = daemonRegistry;
         this.connector = connector;
         this.daemonStarter = daemonStarter;
         this.startListener = startListener;
         this.progressLoggerFactory = progressLoggerFactory;
+        this.spareDaemonStarter = spareDaemonStarter;
     }
 
     public void setConnectTimeout(long connectTimeout) {
@@ -107,6 +110,12 @@ public class DefaultDaemonConnector implements DaemonConnector {
     }
 
     public DaemonClientConnection connect(ExplainingSpec<DaemonContext> constraint) {
+        DaemonClientConnection connection = findOrStartDaemon(constraint);
+        spareDaemonStarter.maybeStartSpareDaemons(constraint, connection.getDaemon());
+        return connection;
+    }
+
+    private DaemonClientConnection findOrStartDaemon(ExplainingSpec<DaemonContext> constraint) {
         final Pair<Collection<DaemonInfo>, Collection<DaemonInfo>> idleBusy = partitionByState(daemonRegistry.getAll(), Idle);
         final Collection<DaemonInfo> idleDaemons = idleBusy.getLeft();
         final Collection<DaemonInfo> busyDaemons = idleBusy.getRight();
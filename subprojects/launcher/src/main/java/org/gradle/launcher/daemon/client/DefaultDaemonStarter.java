@@ -15,6 +15,7 @@
  */
 package org.gradle.launcher.daemon.client;
 
+import com.google.common.io.ByteStreams;
 import org.gradle.api.GradleException;
 import org.gradle.api.UncheckedIOException;
 import org.gradle.api.internal.classpath.DefaultModuleRegistry;
@@ -27,6 +28,7 @@ import org.gradle.internal.classpath.ClassPath;
 import org.gradle.internal.installation.CurrentGradleInstallation;
 import org.gradle.internal.installation.GradleInstallation;
 import org.gradle.internal.io.StreamByteBuffer;
+import org.gradle.internal.os.OperatingSystem;
 import org.gradle.internal.serialize.FlushableEncoder;
 import org.gradle.internal.serialize.kryo.KryoBackedEncoder;
 import org.gradle.internal.time.Time;
@@ -45,9 +47,11 @@ import org.gradle.util.CollectionUtils;
 import org.gradle.util.GFileUtils;
 import org.gradle.util.GradleVersion;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -69,6 +73,15 @@ public class DefaultDaemonStarter implements DaemonStarter {
     }
 
     public DaemonStartupInfo startDaemon(boolean singleUse) {
+        return startDaemon(singleUse, false);
+    }
+
+    public void startSpareDaemon() {
+        startDaemon(false, true);
+    }
+
+    @Nullable
+    private DaemonStartupInfo startDaemon(boolean singleUse, boolean spare) {
         String daemonUid = UUID.randomUUID().toString();
 
         GradleInstallation gradleInstallation = CurrentGradleInstallation.get();
@@ -119,6 +132,8 @@ public class DefaultDaemonStarter implements DaemonStarter {
             encoder.writeSmallInt(daemonParameters.getIdleTimeout());
             encoder.writeSmallInt(daemonParameters.getPeriodicCheckInterval());
             encoder.writeBoolean(singleUse);
+            encoder.writeSmallInt(daemonParameters.getSpareDaemons());
+            encoder.writeBoolean(spare);
             encoder.writeString(daemonUid);
             encoder.writeSmallInt(daemonOpts.size());
             for (String daemonOpt : daemonOpts) {
@@ -134,6 +149,10 @@ public class DefaultDaemonStarter implements DaemonStarter {
         }
         InputStream stdInput = buffer.getInputStream();
 
+        if (spare) {
+            startDetachedProcess(daemonArgs, daemonDir.getVersionedDir(), stdInput);
+            return null;
+        }
         return startProcess(daemonArgs, daemonDir.getVersionedDir(), stdInput);
     }
 
@@ -168,4 +187,30 @@ public class DefaultDaemonStarter implements DaemonStarter {
         }
     }
 
+    /**
+     * Starts the daemon process without waiting for it to start, so that the client can exit while the daemon is still starting. The daemon advertises itself in the
+     * registry once it has started, so its greeting is discarded.
+     */
+    private void startDetachedProcess(List<String> args, File workingDir, InputStream stdInput) {
+        LOGGER.debug("Starting detached daemon process: workingDir = {}, daemonArgs: {}", workingDir, args);
+        try {
+            GFileUtils.mkdirs(workingDir);
+
+            ProcessBuilder builder = new ProcessBuilder(args);
+            builder.directory(workingDir);
+            builder.redirectErrorStream(true);
+            builder.redirectOutput(new File(OperatingSystem.current().isWindows() ? "NUL" : "/dev/null"));
+            Process process = builder.start();
+
+            OutputStream processInput = process.getOutputStream();
+            try {
+                ByteStreams.copy(stdInput, processInput);
+            } finally {
+                processInput.close();
+            }
+        } catch (IOException e) {
+            throw new GradleException("Could not start Gradle daemon.", e);
+        }
+    }
+
 }
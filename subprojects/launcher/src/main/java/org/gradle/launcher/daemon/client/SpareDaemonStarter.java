@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.client;
+
+import org.gradle.api.internal.specs.ExplainingSpec;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.launcher.daemon.context.DaemonConnectDetails;
+import org.gradle.launcher.daemon.context.DaemonContext;
+import org.gradle.launcher.daemon.registry.DaemonInfo;
+import org.gradle.launcher.daemon.registry.DaemonRegistry;
+
+/**
+ * Keeps a number of spare idle daemons available, so that the next build can use a daemon that is already running rather than wait for one to start.
+ *
+ * <p>Missing spare daemons are started in detached processes while the build runs. The client does not wait for these daemons to start.</p>
+ */
+public class SpareDaemonStarter {
+    private static final Logger LOGGER = Logging.getLogger(SpareDaemonStarter.class);
+
+    private final DaemonRegistry daemonRegistry;
+    private final DaemonStarter daemonStarter;
+    private final int spareDaemons;
+    private boolean started;
+
+    public SpareDaemonStarter(DaemonRegistry daemonRegistry, DaemonStarter daemonStarter, int spareDaemons) {
+        this.daemonRegistry = daemonRegistry;
+        this.daemonStarter = daemonStarter;
+        this.spareDaemons = spareDaemons;
+    }
+
+    /**
+     * Starts enough daemons so that there are the requested number of compatible idle daemons, not counting the given daemon, which is about to be used.
+     */
+    public synchronized void maybeStartSpareDaemons(ExplainingSpec<DaemonContext> constraint, DaemonConnectDetails daemonInUse) {
+        if (spareDaemons <= 0 || started) {
+            return;
+        }
+        started = true;
+
+        int idleDaemons = 0;
+        for (DaemonInfo daemon : daemonRegistry.getIdle()) {
+            if (!daemon.getUid().equals(daemonInUse.getUid()) && constraint.isSatisfiedBy(daemon.getContext())) {
+                idleDaemons++;
+            }
+        }
+        int missingDaemons = spareDaemons - idleDaemons;
+        if (missingDaemons <= 0) {
+            return;
+        }
+
+        LOGGER.info("Starting {} spare Gradle Daemon(s).", missingDaemons);
+        for (int i = 0; i < missingDaemons; i++) {
+            try {
+                daemonStarter.startSpareDaemon();
+            } catch (RuntimeException e) {
+                LOGGER.info("Could not start a spare Gradle Daemon.", e);
+                return;
+            }
+        }
+    }
+}
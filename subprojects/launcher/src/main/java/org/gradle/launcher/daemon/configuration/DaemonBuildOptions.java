@@ -41,6 +41,7 @@ public class DaemonBuildOptions {
         List<BuildOption<DaemonParameters>> options = new ArrayList<BuildOption<DaemonParameters>>();
         options.add(new IdleTimeoutOption());
         options.add(new HealthCheckOption());
+        options.add(new SpareDaemonsOption());
         options.add(new BaseDirOption());
         options.add(new JvmArgsOption());
         options.add(new JavaHomeOption());
@@ -94,6 +95,28 @@ public class DaemonBuildOptions {
         }
     }
 
+    public static class SpareDaemonsOption extends StringBuildOption<DaemonParameters> {
+        public static final String GRADLE_PROPERTY = "org.gradle.daemon.spares";
+        public static final String HINT = "the value should be a non-negative int";
+
+        public SpareDaemonsOption() {
+            super(GRADLE_PROPERTY);
+        }
+
+        @Override
+        public void applyTo(String value, DaemonParameters settings, Origin origin) {
+            try {
+                int spareDaemons = Integer.parseInt(value);
+                if (spareDaemons < 0) {
+                    origin.handleInvalidValue(value, HINT);
+                }
+                settings.setSpareDaemons(spareDaemons);
+            } catch (NumberFormatException e) {
+                origin.handleInvalidValue(value, HINT);
+            }
+        }
+    }
+
     public static class BaseDirOption extends StringBuildOption<DaemonParameters> {
         public static final String GRADLE_PROPERTY = "org.gradle.daemon.registry.base";
 
@@ -44,6 +44,7 @@ public class DaemonParameters {
     private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
 
     private int periodicCheckInterval = DEFAULT_PERIODIC_CHECK_INTERVAL_MILLIS;
+    private int spareDaemons;
     private final DaemonJvmOptions jvmOptions = new DaemonJvmOptions(new IdentityFileResolver());
     private Map<String, String> envVariables;
     private boolean enabled = true;
@@ -107,6 +108,17 @@ public class DaemonParameters {
         this.periodicCheckInterval = periodicCheckInterval;
     }
 
+    /**
+     * Returns the number of compatible idle daemons to keep available, in addition to the daemon that runs the build.
+     */
+    public int getSpareDaemons() {
+        return spareDaemons;
+    }
+
+    public void setSpareDaemons(int spareDaemons) {
+        this.spareDaemons = spareDaemons;
+    }
+
     public List<String> getEffectiveJvmArgs() {
         return jvmOptions.getAllImmutableJvmArgs();
     }
@@ -32,4 +32,9 @@ public interface DaemonServerConfiguration {
     List<String> getJvmOptions();
 
     boolean isSingleUse();
+
+    /**
+     * Returns the number of other compatible idle daemons that may be kept alongside this daemon.
+     */
+    int getSpareDaemons();
 }
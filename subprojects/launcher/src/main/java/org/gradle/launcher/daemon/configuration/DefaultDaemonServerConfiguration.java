@@ -26,14 +26,16 @@ public class DefaultDaemonServerConfiguration implements DaemonServerConfigurati
     private final int idleTimeoutMs;
     private final int periodicCheckIntervalMs;
     private final boolean singleUse;
+    private final int spareDaemons;
     private final List<String> jvmOptions;
 
-    public DefaultDaemonServerConfiguration(String daemonUid, File daemonBaseDir, int idleTimeoutMs, int periodicCheckIntervalMs, boolean singleUse, List<String> jvmOptions) {
+    public DefaultDaemonServerConfiguration(String daemonUid, File daemonBaseDir, int idleTimeoutMs, int periodicCheckIntervalMs, boolean singleUse, int spareDaemons, List<String> jvmOptions) {
         this.daemonUid = daemonUid;
         this.daemonBaseDir = daemonBaseDir;
         this.idleTimeoutMs = idleTimeoutMs;
         this.periodicCheckIntervalMs = periodicCheckIntervalMs;
         this.singleUse = singleUse;
+        this.spareDaemons = spareDaemons;
         this.jvmOptions = jvmOptions;
     }
 
@@ -66,4 +68,9 @@ public class DefaultDaemonServerConfiguration implements DaemonServerConfigurati
     public boolean isSingleUse() {
         return singleUse;
     }
+
+    @Override
+    public int getSpareDaemons() {
+        return spareDaemons;
+    }
 }
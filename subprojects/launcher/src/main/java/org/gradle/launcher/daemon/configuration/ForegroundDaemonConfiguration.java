@@ -24,6 +24,6 @@ public class ForegroundDaemonConfiguration extends DefaultDaemonServerConfigurat
     public ForegroundDaemonConfiguration(String daemonUid, File daemonBaseDir, int idleTimeoutMs, int periodicCheckIntervalMs) {
         // Foreground daemon cannot be 'told' what's his startup options as the client sits in the same process so we will infer the jvm opts from the inputArguments()
         // Simplification, we will make the foreground daemon interested only in managed jvm args
-        super(daemonUid, daemonBaseDir, idleTimeoutMs, periodicCheckIntervalMs, false, new CurrentProcess().getJvmOptions().getManagedJvmArgs());
+        super(daemonUid, daemonBaseDir, idleTimeoutMs, periodicCheckIntervalMs, false, 0, new CurrentProcess().getJvmOptions().getManagedJvmArgs());
     }
 }
@@ -192,6 +192,10 @@ public class PersistentDaemonRegistry implements DaemonRegistry {
 
     @Override
     public void removeStopEvents(final Collection<DaemonStopEvent> events) {
+        if (events.isEmpty()) {
+            // Avoid taking the exclusive lock on the registry, which blocks every other client and daemon, when there is nothing to change
+            return;
+        }
         lock.lock();
         LOGGER.info("Removing {} daemon stop events from registry", events.size());
         try {
@@ -31,16 +31,18 @@ import java.util.Collection;
 public class CompatibleDaemonExpirationStrategy implements DaemonExpirationStrategy {
     private final Daemon daemon;
     private final ExplainingSpec<DaemonContext> compatibilitySpec;
+    private final int spareDaemons;
 
     public static final String EXPIRATION_REASON = "other compatible daemons were started";
 
-    CompatibleDaemonExpirationStrategy(Daemon daemon, ExplainingSpec<DaemonContext> compatibilitySpec) {
+    CompatibleDaemonExpirationStrategy(Daemon daemon, ExplainingSpec<DaemonContext> compatibilitySpec, int spareDaemons) {
         this.daemon = daemon;
         this.compatibilitySpec = compatibilitySpec;
+        this.spareDaemons = spareDaemons;
     }
 
-    CompatibleDaemonExpirationStrategy(Daemon daemon) {
-        this(daemon, new DaemonCompatibilitySpec(daemon.getDaemonContext()));
+    CompatibleDaemonExpirationStrategy(Daemon daemon, int spareDaemons) {
+        this(daemon, new DaemonCompatibilitySpec(daemon.getDaemonContext()), spareDaemons);
     }
 
     @Override
@@ -53,7 +55,8 @@ public class CompatibleDaemonExpirationStrategy implements DaemonExpirationStrat
         };
         Collection<DaemonInfo> compatibleIdleDaemons = CollectionUtils.filter(daemon.getDaemonRegistry().getIdle(), spec);
 
-        if (compatibleIdleDaemons.size() > 1) {
+        // Keep the requested number of spare daemons in addition to the most recently used one
+        if (compatibleIdleDaemons.size() > 1 + spareDaemons) {
             return new DaemonExpirationResult(DaemonExpirationStatus.GRACEFUL_EXPIRE, EXPIRATION_REASON);
         } else {
             return DaemonExpirationResult.NOT_TRIGGERED;
@@ -176,6 +176,24 @@ public class Daemon implements Stoppable {
         LOGGER.lifecycle(DaemonMessages.PROCESS_STARTED);
     }
 
+    /**
+     * Advertises this daemon as idle in the registry, so that clients may use it before it has executed any command. A daemon is advertised as busy when it starts, so that
+     * nobody else uses it before the client that started it has connected.
+     *
+     * @throws IllegalStateException if this daemon has not been started.
+     */
+    public void advertiseIdle() {
+        lifecycleLock.lock();
+        try {
+            if (stateCoordinator == null) {
+                throw new IllegalStateException("cannot advertise daemon as idle as it has not been started.");
+            }
+            registryUpdater.onCompleteActivity();
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
     /**
      * Stops the daemon, blocking until any current requests/connections have been satisfied.
      * <p>
@@ -41,6 +41,9 @@ import java.util.concurrent.locks.ReentrantLock;
  *
  * This class has no knowledge of the Daemon's internals and is designed to be used internally by the daemon to coordinate itself and allow worker threads to control the daemon's busy/idle status.
  *
+ * The daemon runs at most one command at a time, and refuses any command that arrives while it is busy. A build changes process wide state, such as the system properties,
+ * the working directory, the environment variables, standard input and the routing of logging output to the client, so two builds cannot safely run in the same daemon at once.
+ *
  * This is not exposed to clients of the daemon.
  */
 public class DaemonStateCoordinator implements Stoppable, DaemonStateControl {
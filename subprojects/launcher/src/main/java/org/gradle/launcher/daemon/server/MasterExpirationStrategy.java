@@ -40,9 +40,10 @@ public class MasterExpirationStrategy implements DaemonExpirationStrategy {
         strategies.add(healthExpirationStrategy);
 
         // Expire compatible, idle, not recently used Daemons after a short time
+        // Check the idle time first, so that the daemon registry is only read by daemons that have been idle for a while
         strategies.add(new AllDaemonExpirationStrategy(ImmutableList.of(
-            new CompatibleDaemonExpirationStrategy(daemon),
             new DaemonIdleTimeoutExpirationStrategy(daemon, DUPLICATE_DAEMON_GRACE_PERIOD_MS, TimeUnit.MILLISECONDS),
+            new CompatibleDaemonExpirationStrategy(daemon, params.getSpareDaemons()),
             new NotMostRecentlyUsedDaemonExpirationStrategy(daemon)
         )));
 
@@ -69,6 +69,7 @@ class PropertiesToDaemonParametersConverterTest extends Specification {
             (DaemonBuildOptions.BaseDirOption.GRADLE_PROPERTY)     : new File("baseDir").absolutePath,
             (DaemonBuildOptions.IdleTimeoutOption.GRADLE_PROPERTY) : "115",
             (DaemonBuildOptions.HealthCheckOption.GRADLE_PROPERTY) : "42",
+            (DaemonBuildOptions.SpareDaemonsOption.GRADLE_PROPERTY): "2",
             (DaemonBuildOptions.DebugOption.GRADLE_PROPERTY)       : "true",
         ], params)
 
@@ -80,6 +81,7 @@ class PropertiesToDaemonParametersConverterTest extends Specification {
         params.baseDir == new File("baseDir").absoluteFile
         params.idleTimeout == 115
         params.periodicCheckInterval == 42
+        params.spareDaemons == 2
     }
 
     def "shows nice message for dummy java home"() {
@@ -123,6 +125,20 @@ class PropertiesToDaemonParametersConverterTest extends Specification {
         ex.message.contains 'bogus'
     }
 
+    @Unroll
+    def "shows nice message for invalid spare daemon count '#value'"() {
+        when:
+        converter.convert((DaemonBuildOptions.SpareDaemonsOption.GRADLE_PROPERTY): value, params)
+
+        then:
+        def ex = thrown(IllegalArgumentException)
+        ex.message.contains 'org.gradle.daemon.spares'
+        ex.message.contains value
+
+        where:
+        value << ['bogus', '-1']
+    }
+
     @Unroll
     def "explicitly sets daemon usage if daemon system property is specified"() {
         when:
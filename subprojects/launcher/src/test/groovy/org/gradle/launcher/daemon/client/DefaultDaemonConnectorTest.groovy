@@ -37,6 +37,7 @@ class DefaultDaemonConnectorTest extends Specification {
     def javaHome = new File("tmp")
     def connectTimeoutSecs = 1
     def daemonCounter = 0
+    def spareDaemonStarter = Mock(SpareDaemonStarter)
 
     class OutgoingConnectorStub implements OutgoingConnector {
         ConnectCompletion connect(Address address) throws ConnectException {
@@ -61,7 +62,8 @@ class DefaultDaemonConnectorTest extends Specification {
                 Spy(OutgoingConnectorStub),
                 { startBusyDaemon() } as DaemonStarter,
                 Stub(DaemonStartListener),
-                Stub(ProgressLoggerFactory)]
+                Stub(ProgressLoggerFactory),
+                spareDaemonStarter]
         )
         connector.connectTimeout = connectTimeoutSecs * 1000
         connector
@@ -159,6 +161,17 @@ class DefaultDaemonConnectorTest extends Specification {
         numAllDaemons == 2
     }
 
+    def "connect() starts spare daemons in addition to the daemon it connects to"() {
+        given:
+        startIdleDaemon()
+
+        when:
+        connector.connect({true} as ExplainingSpec)
+
+        then:
+        1 * spareDaemonStarter.maybeStartSpareDaemons(_, { it.uid == "0" })
+    }
+
     def "connect() will not use existing connection if it fails the compatibility spec"() {
         given:
         startIdleDaemon()
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.client
+
+import org.gradle.api.internal.specs.ExplainingSpec
+import org.gradle.internal.remote.Address
+import org.gradle.launcher.daemon.context.DefaultDaemonContext
+import org.gradle.launcher.daemon.registry.DaemonInfo
+import org.gradle.launcher.daemon.registry.EmbeddedDaemonRegistry
+import spock.lang.Specification
+
+import static org.gradle.launcher.daemon.server.api.DaemonStateControl.State.Busy
+import static org.gradle.launcher.daemon.server.api.DaemonStateControl.State.Idle
+
+class SpareDaemonStarterTest extends Specification {
+    def registry = new EmbeddedDaemonRegistry()
+    def daemonStarter = Mock(DaemonStarter)
+    def constraint = { it.pid < 10 } as ExplainingSpec
+    def daemonCounter = 0
+
+    def "starts missing spare daemons"() {
+        def spareStarter = new SpareDaemonStarter(registry, daemonStarter, 2)
+        def inUse = registerDaemon(Idle, 1)
+        registerDaemon(Idle, 2)
+        registerDaemon(Idle, 20)
+
+        when:
+        spareStarter.maybeStartSpareDaemons(constraint, inUse)
+
+        then:
+        1 * daemonStarter.startSpareDaemon()
+        0 * daemonStarter._
+    }
+
+    def "does not start spare daemons when enough compatible daemons are idle"() {
+        def spareStarter = new SpareDaemonStarter(registry, daemonStarter, 1)
+        def inUse = registerDaemon(Idle, 1)
+        registerDaemon(Busy, 2)
+        registerDaemon(Idle, 3)
+
+        when:
+        spareStarter.maybeStartSpareDaemons(constraint, inUse)
+
+        then:
+        0 * daemonStarter._
+    }
+
+    def "does not start spare daemons when none are requested"() {
+        def spareStarter = new SpareDaemonStarter(registry, daemonStarter, 0)
+        def inUse = registerDaemon(Idle, 1)
+
+        when:
+        spareStarter.maybeStartSpareDaemons(constraint, inUse)
+
+        then:
+        0 * daemonStarter._
+    }
+
+    def "stops starting spare daemons when a daemon cannot be started"() {
+        def spareStarter = new SpareDaemonStarter(registry, daemonStarter, 3)
+        def inUse = registerDaemon(Idle, 1)
+
+        when:
+        spareStarter.maybeStartSpareDaemons(constraint, inUse)
+
+        then:
+        1 * daemonStarter.startSpareDaemon() >> { throw new DaemonConnectionException("broken") }
+        0 * daemonStarter._
+    }
+
+    def "checks for missing spare daemons only once"() {
+        def spareStarter = new SpareDaemonStarter(registry, daemonStarter, 1)
+        def inUse = registerDaemon(Idle, 1)
+
+        when:
+        spareStarter.maybeStartSpareDaemons(constraint, inUse)
+        spareStarter.maybeStartSpareDaemons(constraint, inUse)
+
+        then:
+        1 * daemonStarter.startSpareDaemon()
+        0 * daemonStarter._
+    }
+
+    DaemonInfo registerDaemon(state, long pid) {
+        def num = daemonCounter++
+        def context = new DefaultDaemonContext(num.toString(), new File("java"), new File("daemon"), pid, 1000, [])
+        def address = new Address() {
+            String getDisplayName() {
+                num.toString()
+            }
+        }
+        def info = new DaemonInfo(address, context, "password".bytes, state)
+        registry.store(info)
+        info
+    }
+}
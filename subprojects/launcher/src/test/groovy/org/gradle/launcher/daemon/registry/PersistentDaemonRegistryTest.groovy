@@ -16,6 +16,7 @@
 
 package org.gradle.launcher.daemon.registry
 
+import org.gradle.cache.FileLockManager
 import org.gradle.internal.nativeintegration.ProcessEnvironment
 import org.gradle.internal.nativeintegration.filesystem.Chmod
 import org.gradle.launcher.daemon.context.DaemonContext
@@ -111,6 +112,18 @@ class PersistentDaemonRegistryTest extends Specification {
         registry.stopEvents.empty
     }
 
+    def "does not lock registry file when there are no stop events to remove"() {
+        given:
+        def lockManager = Mock(FileLockManager)
+        def registry = new PersistentDaemonRegistry(file, lockManager, Stub(Chmod))
+
+        when:
+        registry.removeStopEvents([])
+
+        then:
+        0 * lockManager._
+    }
+
     def "clears single stop event when non-empty"() {
         given:
         def stopEvent = new DaemonStopEvent(new Date(1L), new Random().nextLong(), DaemonExpirationStatus.GRACEFUL_EXPIRE, "STOP_REASON")
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.internal.logging.events;
+
+import org.gradle.api.logging.LogLevel;
+
+import java.util.List;
+
+/**
+ * A batch of events, delivered in order. Used to forward many events from another process as a single message, so that the receiver can consume them in bulk.
+ */
+public class BatchOutputEvent extends OutputEvent {
+    private final List<OutputEvent> events;
+
+    public BatchOutputEvent(List<OutputEvent> events) {
+        this.events = events;
+    }
+
+    public List<OutputEvent> getEvents() {
+        return events;
+    }
+
+    @Override
+    public String toString() {
+        return BatchOutputEvent.class.getSimpleName() + " " + events;
+    }
+
+    @Override
+    public LogLevel getLogLevel() {
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.internal.logging.serializer;
+
+import org.gradle.internal.logging.events.BatchOutputEvent;
+import org.gradle.internal.logging.events.OutputEvent;
+import org.gradle.internal.serialize.Decoder;
+import org.gradle.internal.serialize.Encoder;
+import org.gradle.internal.serialize.Serializer;
+
+import java.util.List;
+
+public class BatchOutputEventSerializer implements Serializer<BatchOutputEvent> {
+    private final Serializer<List<OutputEvent>> eventsSerializer;
+
+    public BatchOutputEventSerializer(Serializer<List<OutputEvent>> eventsSerializer) {
+        this.eventsSerializer = eventsSerializer;
+    }
+
+    @Override
+    public void write(Encoder encoder, BatchOutputEvent value) throws Exception {
+        eventsSerializer.write(encoder, value.getEvents());
+    }
+
+    @Override
+    public BatchOutputEvent read(Decoder decoder) throws Exception {
+        return new BatchOutputEvent(eventsSerializer.read(decoder));
+    }
+}
@@ -36,6 +36,7 @@ import org.gradle.internal.logging.console.ThrottlingOutputEventListener;
 import org.gradle.internal.logging.console.UserInputConsoleRenderer;
 import org.gradle.internal.logging.console.UserInputStandardOutputRenderer;
 import org.gradle.internal.logging.console.WorkInProgressRenderer;
+import org.gradle.internal.logging.events.BatchOutputEvent;
 import org.gradle.internal.logging.events.EndOutputEvent;
 import org.gradle.internal.logging.events.LogLevelChangeEvent;
 import org.gradle.internal.logging.events.OutputEvent;
@@ -307,20 +308,41 @@ public class OutputEventRenderer implements OutputEventListener, LoggingRouter {
 
     @Override
     public void onOutput(OutputEvent event) {
-        if (event.getLogLevel() != null && event.getLogLevel().compareTo(logLevel.get()) < 0 && !isProgressEvent(event)) {
+        if (event instanceof BatchOutputEvent) {
+            onOutput((BatchOutputEvent) event);
+            return;
+        }
+        if (!shouldRender(event)) {
             return;
         }
+        synchronized (lock) {
+            formatters.getSource().onOutput(event);
+        }
+    }
+
+    private void onOutput(BatchOutputEvent batch) {
+        synchronized (lock) {
+            for (OutputEvent event : batch.getEvents()) {
+                if (shouldRender(event)) {
+                    formatters.getSource().onOutput(event);
+                }
+            }
+        }
+    }
+
+    private boolean shouldRender(OutputEvent event) {
+        if (event.getLogLevel() != null && event.getLogLevel().compareTo(logLevel.get()) < 0 && !isProgressEvent(event)) {
+            return false;
+        }
         if (event instanceof LogLevelChangeEvent) {
             LogLevelChangeEvent changeEvent = (LogLevelChangeEvent) event;
             LogLevel newLogLevel = changeEvent.getNewLogLevel();
             if (newLogLevel == this.logLevel.get()) {
-                return;
+                return false;
             }
             this.logLevel.set(newLogLevel);
         }
-        synchronized (lock) {
-            formatters.getSource().onOutput(event);
-        }
+        return true;
     }
 
     private boolean isProgressEvent(OutputEvent event) {
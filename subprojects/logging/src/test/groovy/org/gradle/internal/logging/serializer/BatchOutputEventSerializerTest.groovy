@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.internal.logging.serializer
+
+import org.gradle.api.logging.LogLevel
+import org.gradle.internal.logging.events.BatchOutputEvent
+import org.gradle.internal.logging.events.LogEvent
+import org.gradle.internal.logging.events.LogLevelChangeEvent
+import org.gradle.internal.logging.events.OutputEvent
+import org.gradle.internal.serialize.BaseSerializerFactory
+import org.gradle.internal.serialize.DefaultSerializerRegistry
+import org.gradle.internal.serialize.ListSerializer
+import org.gradle.internal.serialize.Serializer
+import spock.lang.Subject
+
+@Subject(BatchOutputEventSerializer)
+class BatchOutputEventSerializerTest extends LogSerializerSpec {
+    BatchOutputEventSerializer serializer
+
+    def setup() {
+        BaseSerializerFactory serializerFactory = new BaseSerializerFactory()
+        Serializer<LogLevel> logLevelSerializer = serializerFactory.getSerializerFor(LogLevel.class)
+        Serializer<Throwable> throwableSerializer = serializerFactory.getSerializerFor(Throwable.class)
+        def registry = new DefaultSerializerRegistry(false)
+        registry.register(LogEvent, new LogEventSerializer(logLevelSerializer, throwableSerializer))
+        registry.register(LogLevelChangeEvent, new LogLevelChangeEventSerializer(logLevelSerializer))
+        serializer = new BatchOutputEventSerializer(new ListSerializer<OutputEvent>(registry.build(OutputEvent)))
+    }
+
+    def "can serialize BatchOutputEvent messages"() {
+        when:
+        def event = new BatchOutputEvent([
+            new LogEvent(TIMESTAMP, CATEGORY, LogLevel.LIFECYCLE, MESSAGE, null, null),
+            new LogLevelChangeEvent(LogLevel.DEBUG),
+            new LogEvent(TIMESTAMP, CATEGORY, LogLevel.ERROR, "other", null, null)
+        ])
+        def result = serialize(event, serializer)
+
+        then:
+        result instanceof BatchOutputEvent
+        result.events.size() == 3
+        result.events[0] instanceof LogEvent
+        result.events[0].message == MESSAGE
+        result.events[0].logLevel == LogLevel.LIFECYCLE
+        result.events[1] instanceof LogLevelChangeEvent
+        result.events[1].newLogLevel == LogLevel.DEBUG
+        result.events[2] instanceof LogEvent
+        result.events[2].message == "other"
+        result.events[2].logLevel == LogLevel.ERROR
+    }
+
+    def "can serialize empty BatchOutputEvent messages"() {
+        when:
+        def result = serialize(new BatchOutputEvent([]), serializer)
+
+        then:
+        result instanceof BatchOutputEvent
+        result.events.empty
+    }
+}
@@ -21,6 +21,7 @@ import org.gradle.api.logging.LogLevel
 import org.gradle.api.logging.StandardOutputListener
 import org.gradle.internal.logging.OutputSpecification
 import org.gradle.internal.logging.console.ConsoleStub
+import org.gradle.internal.logging.events.BatchOutputEvent
 import org.gradle.internal.logging.events.LogEvent
 import org.gradle.internal.logging.events.OutputEventListener
 import org.gradle.internal.nativeintegration.console.ConsoleMetaData
@@ -175,6 +176,25 @@ class OutputEventRendererTest extends OutputSpecification {
         0 * listener._
     }
 
+    def forwardsEventsOfBatchToListenerInOrder() {
+        OutputEventListener listener = Mock()
+        LogEvent ignored = event('ignored', LogLevel.DEBUG)
+        LogEvent event1 = event('message 1', LogLevel.INFO)
+        LogEvent event2 = event('message 2', LogLevel.ERROR)
+
+        when:
+        renderer.configure(LogLevel.INFO)
+        renderer.addOutputEventListener(listener)
+        renderer.onOutput(new BatchOutputEvent([event1, ignored, event2]))
+
+        then:
+        1 * listener.onOutput(event1)
+
+        then:
+        1 * listener.onOutput(event2)
+        0 * listener._
+    }
+
     @Unroll("forward progress events to listener for #logLevel log level")
     def forwardsProgressEventsToListenerRegardlessOfTheLogLevel() {
         OutputEventListener listener = Mock()
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.internal.remote.internal.inet;
+
+import com.google.common.base.Strings;
+import org.gradle.internal.remote.internal.KryoBackedMessageSerializer;
+import org.gradle.internal.serialize.BaseSerializerFactory;
+import org.gradle.internal.serialize.Serializers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends messages over a loopback {@link SocketConnection}. Messages are either streamed, the way a worker process streams test events and logging output
+ * to the build process, or sent as requests that wait for a reply, the way the client and the daemon exchange small control messages.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class SocketConnectionBenchmark {
+
+    private static final int MESSAGES_PER_BATCH = 1000;
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES_PER_BATCH)
+    public void streamMessages(StreamingConnection connection) throws InterruptedException {
+        for (int i = 0; i < MESSAGES_PER_BATCH; i++) {
+            connection.sender.dispatch(connection.message);
+        }
+        connection.sender.flush();
+        connection.batchesReceived.acquire();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String roundTrip(EchoingConnection connection) {
+        connection.sender.dispatch(connection.message);
+        connection.sender.flush();
+        return connection.sender.receive();
+    }
+
+    /**
+     * A loopback connection, with a thread that handles the messages that arrive at the receiving end.
+     */
+    @State(Scope.Benchmark)
+    public abstract static class LoopbackConnection {
+        @Param({"16", "1024", "4096"})
+        int messageLength;
+
+        String message;
+        SocketConnection<String> sender;
+        private SocketConnection<String> receiver;
+        private ServerSocketChannel serverChannel;
+        private Thread receiverThread;
+
+        @Setup
+        public void connect() throws IOException {
+            message = Strings.repeat("x", messageLength);
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.socket().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            SocketChannel clientChannel = SocketChannel.open(serverChannel.socket().getLocalSocketAddress());
+            SocketChannel acceptedChannel = serverChannel.accept();
+            sender = new SocketConnection<String>(clientChannel, new KryoBackedMessageSerializer(), Serializers.stateful(BaseSerializerFactory.STRING_SERIALIZER));
+            receiver = new SocketConnection<String>(acceptedChannel, new KryoBackedMessageSerializer(), Serializers.stateful(BaseSerializerFactory.STRING_SERIALIZER));
+            receiverThread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    receive(receiver);
+                }
+            });
+            receiverThread.start();
+        }
+
+        @TearDown
+        public void disconnect() throws Exception {
+            sender.stop();
+            receiverThread.join();
+            receiver.stop();
+            serverChannel.close();
+        }
+
+        /**
+         * Handles the messages that arrive at the receiving end, until the connection is closed.
+         */
+        protected abstract void receive(SocketConnection<String> receiver);
+    }
+
+    public static class StreamingConnection extends LoopbackConnection {
+        final Semaphore batchesReceived = new Semaphore(0);
+
+        @Override
+        protected void receive(SocketConnection<String> receiver) {
+            int count = 0;
+            while (receiver.receive() != null) {
+                if (++count % MESSAGES_PER_BATCH == 0) {
+                    batchesReceived.release();
+                }
+            }
+        }
+    }
+
+    public static class EchoingConnection extends LoopbackConnection {
+        @Override
+        protected void receive(SocketConnection<String> receiver) {
+            String request;
+            while ((request = receiver.receive()) != null) {
+                receiver.dispatch(request);
+                receiver.flush();
+            }
+        }
+    }
+}
@@ -55,6 +55,9 @@ public class SocketConnection<T> implements RemoteConnection<T> {
             // NOTE: we use non-blocking IO as there is no reliable way when using blocking IO to shutdown reads while
             // keeping writes active. For example, Socket.shutdownInput() does not work on Windows.
             socket.configureBlocking(false);
+            // Messages are buffered and written out explicitly on flush, so there is nothing to gain from Nagle's algorithm.
+            // Disable it so that a small request is not held back waiting for the acknowledgement of a previous one.
+            socket.socket().setTcpNoDelay(true);
             outstr = new SocketOutputStream(socket);
             instr = new SocketInputStream(socket);
         } catch (IOException e) {
@@ -154,7 +157,7 @@ public class SocketConnection<T> implements RemoteConnection<T> {
             this.socket = socket;
             selector = Selector.open();
             socket.register(selector, SelectionKey.OP_READ);
-            buffer = ByteBuffer.allocateDirect(4096);
+            buffer = ByteBuffer.allocateDirect(32 * 1024);
             buffer.limit(0);
         }
 
@@ -174,28 +177,23 @@ public class SocketConnection<T> implements RemoteConnection<T> {
             }
 
             if (buffer.remaining() == 0) {
-                try {
-                    selector.select();
-                } catch (ClosedSelectorException e) {
-                    return -1;
-                }
                 if (!selector.isOpen()) {
                     return -1;
                 }
-
-                buffer.clear();
-                int nread;
-                try {
-                    nread = socket.read(buffer);
-                } catch (IOException e) {
-                    if (isEndOfStream(e)) {
-                        buffer.position(0);
-                        buffer.limit(0);
+                // Read whatever is already available first, and only wait for more data when there is none.
+                // This saves a select() call per buffer when the peer is streaming messages
+                int nread = readIntoBuffer();
+                while (nread == 0) {
+                    try {
+                        selector.select();
+                    } catch (ClosedSelectorException e) {
+                        return -1;
+                    }
+                    if (!selector.isOpen()) {
                         return -1;
                     }
-                    throw e;
+                    nread = readIntoBuffer();
                 }
-                buffer.flip();
 
                 if (nread < 0) {
                     return -1;
@@ -207,6 +205,23 @@ public class SocketConnection<T> implements RemoteConnection<T> {
             return count;
         }
 
+        private int readIntoBuffer() throws IOException {
+            buffer.clear();
+            int nread;
+            try {
+                nread = socket.read(buffer);
+            } catch (IOException e) {
+                if (isEndOfStream(e)) {
+                    buffer.position(0);
+                    buffer.limit(0);
+                    return -1;
+                }
+                throw e;
+            }
+            buffer.flip();
+            return nread;
+        }
+
         @Override
         public void close() throws IOException {
             selector.close();
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.performance.regression.corefeature
+
+import org.gradle.performance.AbstractCrossVersionPerformanceTest
+
+class JavaPluginProjectsMemoryPerformanceTest extends AbstractCrossVersionPerformanceTest {
+
+    def "configure many projects applying the java plugin with a constrained heap"() {
+        given:
+        runner.testProject = "manyJavaPluginProjects"
+        runner.tasksToRun = ['help']
+        // Keep the heap small so that growth in the state retained per project shows up as garbage collection time
+        runner.gradleOpts = ['-Xms768m', '-Xmx768m']
+        runner.targetVersions = ["4.6-20180125002142+0000"]
+
+        when:
+        def result = runner.run()
+
+        then:
+        result.assertCurrentVersionHasNotRegressed()
+    }
+}
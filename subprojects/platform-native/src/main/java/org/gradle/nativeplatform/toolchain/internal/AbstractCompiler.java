@@ -50,11 +50,12 @@ public abstract class AbstractCompiler<T extends BinaryToolSpec> implements Comp
     public WorkResult execute(final T spec) {
         List<String> commonArguments = getArguments(spec);
         final Action<BuildOperationQueue<CommandLineToolInvocation>> invocationAction = newInvocationAction(spec, commonArguments);
+        final CommandLineToolInvocationWorker invocationWorker = decorateInvocationWorker(spec, commandLineToolInvocationWorker);
 
         workerLeaseService.withoutProjectLock(new Runnable() {
             @Override
             public void run() {
-                buildOperationExecutor.runAll(commandLineToolInvocationWorker, invocationAction);
+                buildOperationExecutor.runAll(invocationWorker, invocationAction);
             }
         });
 
@@ -65,6 +66,10 @@ public abstract class AbstractCompiler<T extends BinaryToolSpec> implements Comp
     // Override this method to have multi file invocation
     protected abstract Action<BuildOperationQueue<CommandLineToolInvocation>> newInvocationAction(T spec, List<String> commonArguments);
 
+    protected CommandLineToolInvocationWorker decorateInvocationWorker(T spec, CommandLineToolInvocationWorker worker) {
+        return worker;
+    }
+
     protected List<String> getArguments(T spec) {
         List<String> args = argsTransformer.transform(spec);
 
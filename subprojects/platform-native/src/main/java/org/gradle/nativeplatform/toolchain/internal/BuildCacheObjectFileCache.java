@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.nativeplatform.toolchain.internal;
+
+import com.google.common.io.Files;
+import org.apache.commons.io.FileUtils;
+import org.gradle.caching.BuildCacheKey;
+import org.gradle.caching.internal.controller.BuildCacheController;
+import org.gradle.caching.internal.controller.BuildCacheLoadCommand;
+import org.gradle.caching.internal.controller.BuildCacheStoreCommand;
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.hash.Hasher;
+import org.gradle.internal.hash.Hashing;
+import org.gradle.language.base.compile.CompilerVersion;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * An {@link ObjectFileCache} backed by the build cache. Each object file is stored as a separate entry, whose key also identifies the compiler that produced it.
+ */
+public class BuildCacheObjectFileCache implements ObjectFileCache {
+    private final BuildCacheController buildCache;
+    private final HashCode compilerHash;
+    private final RootDirPathNormalizer pathNormalizer;
+
+    public BuildCacheObjectFileCache(BuildCacheController buildCache, CompilerVersion compilerVersion, File rootDir) {
+        this.buildCache = buildCache;
+        this.pathNormalizer = new RootDirPathNormalizer(rootDir);
+        Hasher hasher = Hashing.md5().newHasher();
+        hasher.putString(compilerVersion.getType());
+        hasher.putString(compilerVersion.getVendor());
+        hasher.putString(compilerVersion.getVersion());
+        this.compilerHash = hasher.hash();
+    }
+
+    @Override
+    public boolean load(HashCode key, File objectFile) {
+        return buildCache.load(new LoadCommand(cacheKey(key), objectFile)) != null;
+    }
+
+    @Override
+    public void store(HashCode key, File objectFile) {
+        buildCache.store(new StoreCommand(cacheKey(key), objectFile));
+    }
+
+    @Override
+    public String normalizePaths(String text) {
+        return pathNormalizer.normalize(text);
+    }
+
+    private BuildCacheKey cacheKey(HashCode key) {
+        Hasher hasher = Hashing.md5().newHasher();
+        hasher.putHash(compilerHash);
+        hasher.putHash(key);
+        return new ObjectFileCacheKey(hasher.hash());
+    }
+
+    private static class ObjectFileCacheKey implements BuildCacheKey {
+        private final HashCode hashCode;
+
+        ObjectFileCacheKey(HashCode hashCode) {
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public String getHashCode() {
+            return hashCode.toString();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return "object file " + hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return getDisplayName();
+        }
+    }
+
+    private static class LoadCommand implements BuildCacheLoadCommand<File> {
+        private final BuildCacheKey key;
+        private final File objectFile;
+
+        LoadCommand(BuildCacheKey key, File objectFile) {
+            this.key = key;
+            this.objectFile = objectFile;
+        }
+
+        @Override
+        public BuildCacheKey getKey() {
+            return key;
+        }
+
+        @Override
+        public Result<File> load(InputStream inputStream) throws IOException {
+            FileUtils.copyInputStreamToFile(inputStream, objectFile);
+            return new Result<File>() {
+                @Override
+                public long getArtifactEntryCount() {
+                    return 1;
+                }
+
+                @Override
+                public File getMetadata() {
+                    return objectFile;
+                }
+            };
+        }
+    }
+
+    private static class StoreCommand implements BuildCacheStoreCommand {
+        private final BuildCacheKey key;
+        private final File objectFile;
+
+        StoreCommand(BuildCacheKey key, File objectFile) {
+            this.key = key;
+            this.objectFile = objectFile;
+        }
+
+        @Override
+        public BuildCacheKey getKey() {
+            return key;
+        }
+
+        @Override
+        public Result store(OutputStream outputStream) throws IOException {
+            try {
+                Files.copy(objectFile, outputStream);
+            } finally {
+                outputStream.close();
+            }
+            return new Result() {
+                @Override
+                public long getArtifactEntryCount() {
+                    return 1;
+                }
+            };
+        }
+    }
+}
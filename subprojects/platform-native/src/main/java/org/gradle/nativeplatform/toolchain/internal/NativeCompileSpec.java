@@ -16,9 +16,11 @@
 
 package org.gradle.nativeplatform.toolchain.internal;
 
+import org.gradle.internal.hash.HashCode;
 import org.gradle.language.nativeplatform.internal.IncludeDirectives;
 import org.gradle.nativeplatform.internal.BinaryToolSpec;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.util.Collection;
 import java.util.List;
@@ -89,4 +91,19 @@ public interface NativeCompileSpec extends BinaryToolSpec {
     Map<File, IncludeDirectives> getSourceFileIncludeDirectives();
 
     void setSourceFileIncludeDirectives(Map<File, IncludeDirectives> map);
+
+    /**
+     * Returns the cache to load and store object files from, or null when object files should not be cached.
+     */
+    @Nullable
+    ObjectFileCache getObjectFileCache();
+
+    void setObjectFileCache(@Nullable ObjectFileCache objectFileCache);
+
+    /**
+     * Returns a hash of the content of each source file and the headers it includes. Object files are only cached for source files with an entry in this map.
+     */
+    Map<File, HashCode> getSourceFileInputHashes();
+
+    void setSourceFileInputHashes(Map<File, HashCode> map);
 }
@@ -18,8 +18,10 @@ package org.gradle.nativeplatform.toolchain.internal;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.io.Files;
 import org.gradle.api.Action;
 import org.gradle.api.Transformer;
+import org.gradle.api.UncheckedIOException;
 import org.gradle.api.logging.LogLevel;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.logging.Logging;
@@ -27,6 +29,9 @@ import org.gradle.api.specs.Spec;
 import org.gradle.api.tasks.WorkResult;
 import org.gradle.api.tasks.WorkResults;
 import org.gradle.internal.FileUtils;
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.hash.Hasher;
+import org.gradle.internal.hash.Hashing;
 import org.gradle.internal.operations.BuildOperationExecutor;
 import org.gradle.internal.operations.BuildOperationQueue;
 import org.gradle.internal.os.OperatingSystem;
@@ -36,7 +41,10 @@ import org.gradle.language.nativeplatform.internal.IncludeDirectives;
 import org.gradle.nativeplatform.internal.CompilerOutputFileNamingSchemeFactory;
 import org.gradle.util.CollectionUtils;
 
+import javax.annotation.Nullable;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.List;
 
@@ -78,6 +86,22 @@ public abstract class NativeCompiler<T extends NativeCompileSpec> extends Abstra
         };
     }
 
+    @Override
+    protected CommandLineToolInvocationWorker decorateInvocationWorker(T spec, CommandLineToolInvocationWorker worker) {
+        ObjectFileCache objectFileCache = spec.getObjectFileCache();
+        if (objectFileCache == null || !canCacheObjectFiles(spec)) {
+            return worker;
+        }
+        return new ObjectFileCachingInvocationWorker(worker, objectFileCache);
+    }
+
+    /**
+     * Returns true when each invocation for the given spec produces nothing but its object file, so that the object file can be reused from a cache.
+     */
+    protected boolean canCacheObjectFiles(T spec) {
+        return true;
+    }
+
     protected List<String> getSourceArgs(File sourceFile) {
         return Collections.singletonList(sourceFile.getAbsolutePath());
     }
@@ -139,10 +163,54 @@ public abstract class NativeCompiler<T extends NativeCompileSpec> extends Abstra
 
     protected CommandLineToolInvocation createPerFileInvocation(List<String> genericArgs, File sourceFile, File objectDir, T spec) {
         List<String> sourceArgs = getSourceArgs(sourceFile);
-        List<String> outputArgs = getOutputArgs(spec, getOutputFileDir(sourceFile, objectDir, objectFileExtension));
+        File outputFile = getOutputFileDir(sourceFile, objectDir, objectFileExtension);
+        List<String> outputArgs = getOutputArgs(spec, outputFile);
         List<String> pchArgs = maybeGetPCHArgs(spec, sourceFile);
 
-        return newInvocation("compiling ".concat(sourceFile.getName()), objectDir, buildPerFileArgs(genericArgs, sourceArgs, outputArgs, pchArgs), spec.getOperationLogger());
+        CommandLineToolInvocation invocation = newInvocation("compiling ".concat(sourceFile.getName()), objectDir, buildPerFileArgs(genericArgs, sourceArgs, outputArgs, pchArgs), spec.getOperationLogger());
+        HashCode cacheKey = getObjectFileCacheKey(spec, sourceFile, genericArgs, sourceArgs, pchArgs);
+        if (cacheKey == null) {
+            return invocation;
+        }
+        return new ObjectFileCachingInvocationWorker.CacheableInvocation(invocation, cacheKey, outputFile);
+    }
+
+    /**
+     * Calculates the key of the object file for the given source file from the source file and header hashes plus the compiler arguments, excluding the output location.
+     * Paths within the root directory of the build are normalized, so that the key is the same for a build in another location.
+     * Returns null when the object file should not be cached. Sources compiled with a pre-compiled or prefix header are never cached, as the content of that header is not part of the source file hash.
+     */
+    @Nullable
+    private HashCode getObjectFileCacheKey(T spec, File sourceFile, List<String> genericArgs, List<String> sourceArgs, List<String> pchArgs) {
+        if (spec.getObjectFileCache() == null || !pchArgs.isEmpty() || !canCacheObjectFiles(spec)) {
+            return null;
+        }
+        HashCode sourceFileInputHash = spec.getSourceFileInputHashes().get(sourceFile);
+        if (sourceFileInputHash == null) {
+            return null;
+        }
+        ObjectFileCache objectFileCache = spec.getObjectFileCache();
+        Hasher hasher = Hashing.md5().newHasher();
+        hasher.putHash(sourceFileInputHash);
+        for (String arg : Iterables.concat(genericArgs, sourceArgs)) {
+            hasher.putString(objectFileCache.normalizePaths(arg));
+            if (arg.startsWith("@")) {
+                // The arguments have been moved to an options file
+                File optionsFile = new File(arg.substring(1));
+                if (optionsFile.isFile()) {
+                    hasher.putString(objectFileCache.normalizePaths(readContent(optionsFile)));
+                }
+            }
+        }
+        return hasher.hash();
+    }
+
+    private static String readContent(File file) {
+        try {
+            return Files.toString(file, Charset.defaultCharset());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     protected Iterable<String> buildPerFileArgs(List<String> genericArgs, List<String> sourceArgs, List<String> outputArgs, List<String> pchArgs) {
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.nativeplatform.toolchain.internal;
+
+import org.gradle.internal.hash.HashCode;
+
+import java.io.File;
+
+/**
+ * Caches the object file produced by compiling a single source file, keyed on a hash of all the inputs to that compilation.
+ */
+public interface ObjectFileCache {
+    /**
+     * Loads the object file for the given key into the given location.
+     *
+     * @return true if the object file was loaded, false when there is no entry for the key.
+     */
+    boolean load(HashCode key, File objectFile);
+
+    /**
+     * Stores the given object file under the given key.
+     */
+    void store(HashCode key, File objectFile);
+
+    /**
+     * Makes the paths within the root directory of the build in the given path or compiler argument independent of the location of the build, so that keys calculated from
+     * them can be shared with builds in other locations.
+     */
+    String normalizePaths(String text);
+}
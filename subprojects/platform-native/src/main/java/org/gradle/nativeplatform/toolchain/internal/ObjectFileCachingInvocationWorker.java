@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.nativeplatform.toolchain.internal;
+
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.operations.BuildOperationContext;
+import org.gradle.internal.operations.logging.BuildOperationLogger;
+import org.gradle.internal.progress.BuildOperationDescriptor;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the object file for a cacheable compiler invocation from an {@link ObjectFileCache}, and only runs the compiler when there is no cache entry.
+ * The produced object file is stored in the cache after the compiler has run successfully.
+ */
+class ObjectFileCachingInvocationWorker implements CommandLineToolInvocationWorker {
+    private final CommandLineToolInvocationWorker delegate;
+    private final ObjectFileCache objectFileCache;
+
+    ObjectFileCachingInvocationWorker(CommandLineToolInvocationWorker delegate, ObjectFileCache objectFileCache) {
+        this.delegate = delegate;
+        this.objectFileCache = objectFileCache;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return delegate.getDisplayName();
+    }
+
+    @Override
+    public void execute(CommandLineToolInvocation invocation, BuildOperationContext context) {
+        if (!(invocation instanceof CacheableInvocation)) {
+            delegate.execute(invocation, context);
+            return;
+        }
+        CacheableInvocation cacheableInvocation = (CacheableInvocation) invocation;
+        if (objectFileCache.load(cacheableInvocation.getCacheKey(), cacheableInvocation.getObjectFile())) {
+            return;
+        }
+        delegate.execute(invocation, context);
+        objectFileCache.store(cacheableInvocation.getCacheKey(), cacheableInvocation.getObjectFile());
+    }
+
+    /**
+     * A compiler invocation that produces a single object file, whose content is entirely determined by the given cache key.
+     */
+    static class CacheableInvocation implements CommandLineToolInvocation {
+        private final CommandLineToolInvocation delegate;
+        private final HashCode cacheKey;
+        private final File objectFile;
+
+        CacheableInvocation(CommandLineToolInvocation delegate, HashCode cacheKey, File objectFile) {
+            this.delegate = delegate;
+            this.cacheKey = cacheKey;
+            this.objectFile = objectFile;
+        }
+
+        HashCode getCacheKey() {
+            return cacheKey;
+        }
+
+        File getObjectFile() {
+            return objectFile;
+        }
+
+        @Override
+        public List<File> getPath() {
+            return delegate.getPath();
+        }
+
+        @Override
+        public Map<String, String> getEnvironment() {
+            return delegate.getEnvironment();
+        }
+
+        @Override
+        public File getWorkDirectory() {
+            return delegate.getWorkDirectory();
+        }
+
+        @Override
+        public Iterable<String> getArgs() {
+            return delegate.getArgs();
+        }
+
+        @Override
+        public BuildOperationLogger getLogger() {
+            return delegate.getLogger();
+        }
+
+        @Override
+        public BuildOperationDescriptor.Builder description() {
+            return delegate.description();
+        }
+    }
+}
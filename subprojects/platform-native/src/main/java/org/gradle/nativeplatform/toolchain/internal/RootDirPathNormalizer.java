@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.nativeplatform.toolchain.internal;
+
+import java.io.File;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replaces the location of the root directory of the build in paths and compiler arguments, so that object file cache keys calculated from them are the same for a build in
+ * another location, such as another checkout or another machine.
+ */
+public class RootDirPathNormalizer {
+    private static final String ROOT_DIR_PLACEHOLDER = Matcher.quoteReplacement("<root>");
+    private final Pattern rootDirPattern;
+
+    public RootDirPathNormalizer(File rootDir) {
+        // Only match the whole root directory, not a sibling directory whose name starts with the same characters
+        this.rootDirPattern = Pattern.compile(Pattern.quote(rootDir.getAbsolutePath()) + "(?=[/\\\\\"]|$)");
+    }
+
+    public String normalize(String text) {
+        return rootDirPattern.matcher(text).replaceAll(ROOT_DIR_PLACEHOLDER);
+    }
+}
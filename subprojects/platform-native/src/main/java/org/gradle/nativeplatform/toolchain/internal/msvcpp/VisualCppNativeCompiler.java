@@ -48,6 +48,12 @@ class VisualCppNativeCompiler<T extends NativeCompileSpec> extends NativeCompile
         return args;
     }
 
+    @Override
+    protected boolean canCacheObjectFiles(T spec) {
+        // Debuggable compilation also writes a program database next to the object file
+        return !spec.isDebuggable();
+    }
+
     @Override
     protected void addOptionsFileArgs(List<String> args, File tempDir) {
         OptionsFileArgsWriter writer = new VisualCppOptionsFileArgsWriter(tempDir);
@@ -24,6 +24,7 @@ import org.gradle.internal.concurrent.DefaultParallelismConfiguration
 import org.gradle.internal.concurrent.GradleThread
 import org.gradle.internal.concurrent.ParallelismConfigurationManager
 import org.gradle.internal.concurrent.ParallelismConfigurationManagerFixture
+import org.gradle.internal.hash.HashCode
 import org.gradle.internal.operations.BuildOperationExecutor
 import org.gradle.internal.operations.DefaultBuildOperationIdFactory
 import org.gradle.internal.operations.DefaultBuildOperationQueueFactory
@@ -35,6 +36,7 @@ import org.gradle.internal.resources.ResourceLockCoordinationService
 import org.gradle.internal.time.Clock
 import org.gradle.internal.work.WorkerLeaseService
 import org.gradle.nativeplatform.internal.CompilerOutputFileNamingSchemeFactory
+import org.gradle.test.fixtures.file.TestFile
 import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
 import org.gradle.test.fixtures.work.TestWorkerLeaseService
 import org.junit.Rule
@@ -187,6 +189,116 @@ abstract class NativeCompilerTest extends Specification {
         false           | "options passed on the command line only"
     }
 
+    def "loads object files from cache and only compiles sources without a cache entry"() {
+        given:
+        GradleThread.setManaged()
+
+        def compiler = getCompiler()
+        def testDir = tmpDirProvider.testDirectory
+        def objectFileDir = testDir.file("output/objects")
+        def sourceFile1 = testDir.file("source1.ext")
+        def sourceFile2 = testDir.file("source2.ext")
+        def objectFile1 = compiler.getOutputFileDir(sourceFile1, objectFileDir, O_EXT)
+        def objectFile2 = compiler.getOutputFileDir(sourceFile2, objectFileDir, O_EXT)
+        def objectFileCache = Mock(ObjectFileCache)
+
+        when:
+        def compileSpec = Stub(getCompileSpecType()) {
+            getTempDir() >> testDir
+            getObjectFileDir() >> objectFileDir
+            getSourceFiles() >> [sourceFile1, sourceFile2]
+            getOperationLogger() >> Mock(BuildOperationLogger)
+            getPreCompiledHeader() >> null
+            getPrefixHeaderFile() >> null
+            getPreCompiledHeaderObjectFile() >> null
+            getObjectFileCache() >> objectFileCache
+            getSourceFileInputHashes() >> [(sourceFile1): HashCode.fromInt(1), (sourceFile2): HashCode.fromInt(2)]
+        }
+
+        and:
+        compiler.execute(compileSpec)
+
+        then:
+        _ * objectFileCache.normalizePaths(_) >> { String text -> text }
+        1 * objectFileCache.load(_, objectFile1) >> true
+        1 * objectFileCache.load(_, objectFile2) >> false
+        1 * commandLineTool.execute({ it.args.contains(sourceFile2.absolutePath) }, _)
+        1 * objectFileCache.store(_, objectFile2)
+        0 * commandLineTool.execute(_, _)
+        0 * objectFileCache._
+
+        cleanup:
+        GradleThread.setUnmanaged()
+    }
+
+    def "object file cache key is the same for builds in different locations"() {
+        given:
+        GradleThread.setManaged()
+        def compiler = getCompiler()
+
+        expect:
+        def key1 = objectFileCacheKey(compiler, tmpDirProvider.testDirectory.file("checkout1"))
+        def key2 = objectFileCacheKey(compiler, tmpDirProvider.testDirectory.file("checkout2"))
+        key1 != null
+        key1 == key2
+
+        cleanup:
+        GradleThread.setUnmanaged()
+    }
+
+    private HashCode objectFileCacheKey(NativeCompiler compiler, TestFile rootDir) {
+        def sourceFile = rootDir.file("src/main/cpp/main.cpp")
+        def includeDir = rootDir.file("src/main/headers")
+        def pathNormalizer = new RootDirPathNormalizer(rootDir)
+        HashCode key = null
+        def objectFileCache = Stub(ObjectFileCache) {
+            normalizePaths(_) >> { String text -> pathNormalizer.normalize(text) }
+            load(_, _) >> { HashCode cacheKey, File objectFile -> key = cacheKey; true }
+        }
+        def compileSpec = Stub(getCompileSpecType()) {
+            getTempDir() >> rootDir.file("build/tmp")
+            getObjectFileDir() >> rootDir.file("build/objects")
+            getSourceFiles() >> [sourceFile]
+            getIncludeRoots() >> [includeDir]
+            getOperationLogger() >> Mock(BuildOperationLogger)
+            getPreCompiledHeader() >> null
+            getPrefixHeaderFile() >> null
+            getPreCompiledHeaderObjectFile() >> null
+            getObjectFileCache() >> objectFileCache
+            getSourceFileInputHashes() >> [(sourceFile): HashCode.fromInt(1)]
+        }
+        compiler.execute(compileSpec)
+        return key
+    }
+
+    def "does not cache object files for sources without an input hash"() {
+        given:
+        def compiler = getCompiler()
+        def testDir = tmpDirProvider.testDirectory
+        def objectFileDir = testDir.file("output/objects")
+        def sourceFile = testDir.file("source1.ext")
+        def objectFileCache = Mock(ObjectFileCache)
+
+        when:
+        def compileSpec = Stub(getCompileSpecType()) {
+            getObjectFileDir() >> objectFileDir
+            getSourceFiles() >> [sourceFile]
+            getOperationLogger() >> Mock(BuildOperationLogger)
+            getPreCompiledHeader() >> null
+            getPrefixHeaderFile() >> null
+            getPreCompiledHeaderObjectFile() >> null
+            getObjectFileCache() >> objectFileCache
+            getSourceFileInputHashes() >> [:]
+        }
+
+        and:
+        compiler.execute(compileSpec)
+
+        then:
+        1 * commandLineTool.execute(_, _)
+        0 * objectFileCache._
+    }
+
     def "user-supplied arg actions run once per execute"() {
         given:
         def invocationContext = new DefaultMutableCommandLineToolContext()
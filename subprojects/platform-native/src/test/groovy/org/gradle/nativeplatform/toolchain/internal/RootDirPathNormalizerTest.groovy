@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.nativeplatform.toolchain.internal
+
+import spock.lang.Specification
+
+class RootDirPathNormalizerTest extends Specification {
+    def rootDir = new File("build-root").absoluteFile
+    def normalizer = new RootDirPathNormalizer(rootDir)
+
+    def "replaces root directory in paths and arguments"() {
+        expect:
+        normalizer.normalize(rootDir.path) == "<root>"
+        normalizer.normalize(new File(rootDir, "src/main.c").path) == "<root>${File.separator}src${File.separator}main.c"
+        normalizer.normalize("-I" + new File(rootDir, "include").path) == "-I<root>${File.separator}include"
+        normalizer.normalize("\"-I" + rootDir.path + "\"") == "\"-I<root>\""
+    }
+
+    def "does not change paths outside the root directory"() {
+        def sibling = new File(rootDir.parentFile, "build-root-other/include").path
+
+        expect:
+        normalizer.normalize(sibling) == sibling
+        normalizer.normalize("-DNAME=value") == "-DNAME=value"
+    }
+}
@@ -19,6 +19,7 @@ package org.gradle.api.plugins
 import org.gradle.api.internal.component.BuildableJavaComponent
 import org.gradle.api.internal.component.ComponentRegistry
 import org.gradle.integtests.fixtures.AbstractIntegrationSpec
+import spock.lang.Unroll
 
 class JavaPluginIntegrationTest extends AbstractIntegrationSpec {
     def appliesBasePluginsAndAddsConventionObject() {
@@ -76,4 +77,34 @@ class JavaPluginIntegrationTest extends AbstractIntegrationSpec {
         then:
         result.assertOutputContains("Gradle now uses separate output directories for each JVM language, but this build assumes a single directory for all classes from a source set.")
     }
+
+    @Unroll
+    def "cannot redefine #taskName task added by the java plugin"() {
+        buildFile << """
+            apply plugin: 'java'
+
+            task ${taskName}
+        """
+
+        expect:
+        fails "help"
+        failure.assertHasCause("Cannot add task ':${taskName}' as a task with that name already exists.")
+
+        where:
+        taskName << ['javadoc', 'buildNeeded', 'buildDependents']
+    }
+
+    def "tasks added by the java plugin are visible when iterating the task container"() {
+        buildFile << """
+            apply plugin: 'groovy'
+
+            assert tasks.withType(Javadoc)*.name == ['javadoc']
+            assert tasks.withType(Groovydoc)*.name == ['groovydoc']
+            assert tasks.matching { it.name.startsWith('build') }*.name.containsAll(['buildNeeded', 'buildDependents'])
+            assert tasks.findAll { it.name == 'javadoc' }.size() == 1
+        """
+
+        expect:
+        succeeds "help"
+    }
 }
@@ -432,6 +432,29 @@ class JavaPluginTest extends AbstractProjectBuilderSpec {
         task.workingDir == project.projectDir
     }
 
+    def "creates javadoc and build tasks only when they are required"() {
+        given:
+        project.pluginManager.apply(JavaPlugin)
+        def createdTasks = project.tasks.createdTaskCount
+
+        expect:
+        project.tasks.names.containsAll([JavaPlugin.JAVADOC_TASK_NAME, JavaBasePlugin.BUILD_NEEDED_TASK_NAME, JavaBasePlugin.BUILD_DEPENDENTS_TASK_NAME])
+
+        when:
+        def javadocTasks = project.tasks.withType(Javadoc) as List
+
+        then:
+        javadocTasks*.name == [JavaPlugin.JAVADOC_TASK_NAME]
+        project.tasks.createdTaskCount == createdTasks + 1
+
+        when:
+        def buildNeeded = project.tasks[JavaBasePlugin.BUILD_NEEDED_TASK_NAME]
+
+        then:
+        buildNeeded.group == BasePlugin.BUILD_GROUP
+        project.tasks.createdTaskCount == createdTasks + 2
+    }
+
     def appliesMappingsToTasksAddedByTheBuildScript() {
         given:
         project.pluginManager.apply(JavaPlugin)
@@ -87,15 +87,17 @@ public class HttpClientConfigurer {
 
     public void configure(HttpClientBuilder builder) {
         SystemDefaultCredentialsProvider credentialsProvider = new SystemDefaultCredentialsProvider();
+        Collection<Authentication> authentications = httpSettings.getAuthenticationSettings();
         configureSslSocketConnectionFactory(builder, httpSettings.getSslContextFactory(), httpSettings.getHostnameVerifier());
         configureAuthSchemeRegistry(builder);
-        configureCredentials(builder, credentialsProvider, httpSettings.getAuthenticationSettings());
+        configureCredentials(builder, credentialsProvider, authentications);
         configureProxy(builder, credentialsProvider, httpSettings);
         configureUserAgent(builder);
         configureCookieSpecRegistry(builder);
         configureRequestConfig(builder);
         configureSocketConfig(builder);
         configureRedirectStrategy(builder);
+        configureConnectionState(builder, authentications);
         builder.setDefaultCredentialsProvider(credentialsProvider);
         builder.setMaxConnTotal(MAX_HTTP_CONNECTIONS);
         builder.setMaxConnPerRoute(MAX_HTTP_CONNECTIONS);
@@ -230,6 +232,15 @@ public class HttpClientConfigurer {
         }
     }
 
+    private void configureConnectionState(HttpClientBuilder builder, Collection<Authentication> authentications) {
+        if (authentications.isEmpty()) {
+            // Without connection based authentication, the only connection state is the SSL client principal, which is the same for
+            // every connection made by this client. Ignore it, so pooled (TLS) connections can be reused by any request instead of
+            // a new connection being opened for each request that does not share an http context
+            builder.disableConnectionState();
+        }
+    }
+
     private String getAuthScheme(Authentication authentication) {
         if (authentication instanceof BasicAuthentication) {
             return AuthSchemes.BASIC;
@@ -51,6 +51,7 @@ public class HttpClientConfigurerTest extends Specification {
 
         then:
         httpClientBuilder.credentialsProvider.getCredentials(AuthScope.ANY) == null
+        httpClientBuilder.connectionStateDisabled
     }
 
     def "configures http client with proxy credentials"() {
@@ -99,6 +100,9 @@ public class HttpClientConfigurerTest extends Specification {
 
         and:
         httpClientBuilder.requestFirst[0] instanceof HttpClientConfigurer.PreemptiveAuth
+
+        and:
+        !httpClientBuilder.connectionStateDisabled
     }
 
     def "configures http client with user agent"() {